@@ -0,0 +1,66 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+@Slf4j
+public final class CacheBatch {
+    private CacheBatch() {
+    }
+
+    public static Map<String, Object> getAll(Cache cache, List<String> keys) {
+        if (cache == null || keys.isEmpty()) {
+            return new HashMap<>();
+        }
+        try {
+            if (cache instanceof TwoTierCache twoTierCache) {
+                return twoTierCache.getAll(keys);
+            }
+            Map<String, Object> found = new HashMap<>();
+            for (String key : keys) {
+                Cache.ValueWrapper wrapper = cache.get(key);
+                if (wrapper != null && wrapper.get() != null) {
+                    found.put(key, wrapper.get());
+                }
+            }
+            return found;
+        } catch (Exception e) {
+            log.error("Failed to read {} entries from cache {}", keys.size(), cache.getName(), e);
+            return new HashMap<>();
+        }
+    }
+
+    public static void evictAll(Cache cache, Collection<String> keys) {
+        if (cache == null || keys.isEmpty()) {
+            return;
+        }
+        try {
+            if (cache instanceof TwoTierCache twoTierCache) {
+                twoTierCache.evictAll(keys);
+            } else {
+                keys.forEach(cache::evict);
+            }
+        } catch (Exception e) {
+            log.error("Failed to evict {} entries from cache {}", keys.size(), cache.getName(), e);
+        }
+    }
+
+    public static void putAllIfAbsent(Cache cache, Map<String, Object> entries) {
+        if (cache == null || entries.isEmpty()) {
+            return;
+        }
+        try {
+            if (cache instanceof TwoTierCache twoTierCache) {
+                twoTierCache.putAllIfAbsent(entries);
+            } else {
+                entries.forEach(cache::putIfAbsent);
+            }
+        } catch (Exception e) {
+            log.error("Failed to write {} entries to cache {}", entries.size(), cache.getName(), e);
+        }
+    }
+}
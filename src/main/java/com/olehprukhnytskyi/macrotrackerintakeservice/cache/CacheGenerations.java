@@ -0,0 +1,40 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+public class CacheGenerations {
+    private static final String KEY_PREFIX = "cache-generation::";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public CacheGenerations(RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    public long current(String cacheName, Object owner) {
+        try {
+            String value = redisTemplate.opsForValue().get(generationKey(cacheName, owner));
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("Failed to read cache generation for cache={} owner={}",
+                    cacheName, owner, e);
+            return -1L;
+        }
+    }
+
+    public void bump(String cacheName, Object owner) {
+        try {
+            redisTemplate.opsForValue().increment(generationKey(cacheName, owner));
+        } catch (Exception e) {
+            log.error("Failed to bump cache generation for cache={} owner={}",
+                    cacheName, owner, e);
+        }
+    }
+
+    private String generationKey(String cacheName, Object owner) {
+        return KEY_PREFIX + cacheName + "::" + owner;
+    }
+}
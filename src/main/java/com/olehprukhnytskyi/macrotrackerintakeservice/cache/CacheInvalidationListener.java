@@ -0,0 +1,31 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+    private final TwoTierCacheManager cacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    message.getBody(), CacheInvalidationMessage.class);
+            if (publisher.isLocalOrigin(invalidation)) {
+                return;
+            }
+            log.debug("Evicting local cache entry cache={} key={}",
+                    invalidation.getCacheName(), invalidation.getKey());
+            cacheManager.evictLocal(invalidation.getCacheName(), invalidation.getKey());
+        } catch (Exception e) {
+            log.error("Failed to process cache invalidation message", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+public class CacheInvalidationPublisher {
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public CacheInvalidationPublisher(RedisConnectionFactory connectionFactory,
+                                      ObjectMapper objectMapper, String channel) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    public void publish(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new CacheInvalidationMessage(nodeId, cacheName, key));
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (Exception e) {
+            log.error("Failed to publish cache invalidation for cache={} key={}",
+                    cacheName, key, e);
+        }
+    }
+
+    public boolean isLocalOrigin(CacheInvalidationMessage message) {
+        return nodeId.equals(message.getOrigin());
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+}
@@ -0,0 +1,86 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@Slf4j
+public class CacheLoadLease {
+    private static final String KEY_PREFIX = "cache-lease::";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final String token = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration pollInterval;
+
+    public CacheLoadLease(RedisConnectionFactory connectionFactory, boolean enabled,
+                          Duration ttl, Duration pollInterval) {
+        this.redisTemplate = enabled ? new StringRedisTemplate(connectionFactory) : null;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.pollInterval = pollInterval;
+    }
+
+    public static CacheLoadLease disabled() {
+        return new CacheLoadLease(null, false, Duration.ZERO, Duration.ZERO);
+    }
+
+    public boolean tryAcquire(String cacheName, String key) {
+        if (!enabled) {
+            return true;
+        }
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(cacheName, key), token, ttl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("Failed to acquire cache load lease for cache={} key={}",
+                    cacheName, key, e);
+            return true;
+        }
+    }
+
+    public void release(String cacheName, String key) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(cacheName, key)), token);
+        } catch (Exception e) {
+            log.warn("Failed to release cache load lease for cache={} key={}",
+                    cacheName, key, e);
+        }
+    }
+
+    public Cache.ValueWrapper awaitValue(Supplier<Cache.ValueWrapper> lookup) {
+        long deadline = System.nanoTime() + ttl.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Cache.ValueWrapper wrapper = lookup.get();
+            if (wrapper != null) {
+                return wrapper;
+            }
+        }
+        return null;
+    }
+
+    private String leaseKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,6 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+public enum CacheWriteMode {
+    EVICT,
+    WRITE_THROUGH
+}
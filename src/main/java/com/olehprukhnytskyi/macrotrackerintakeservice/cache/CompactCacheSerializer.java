@@ -0,0 +1,334 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.MealTemplateItemDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.MealTemplateResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+    private static final byte MAGIC = (byte) 0xC1;
+    private static final byte VERSION = 2;
+    private static final byte UNVERSIONED_INTAKES = 1;
+    private static final byte TYPE_EMPTY_LIST = 0;
+    private static final byte TYPE_INTAKE_LIST = 1;
+    private static final byte TYPE_TEMPLATE_LIST = 2;
+    private static final int DECIMAL_NULL = Byte.MIN_VALUE;
+    private static final int DECIMAL_WIDE = Byte.MIN_VALUE + 1;
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final boolean writeCompact;
+
+    public CompactCacheSerializer(RedisSerializer<Object> jsonSerializer, boolean writeCompact) {
+        this.jsonSerializer = jsonSerializer;
+        this.writeCompact = writeCompact;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!writeCompact || !(value instanceof List<?> list)) {
+            return jsonSerializer.serialize(value);
+        }
+        if (list.isEmpty()) {
+            return new byte[]{MAGIC, VERSION, TYPE_EMPTY_LIST};
+        }
+        if (allInstancesOf(list, IntakeResponseDto.class)) {
+            Writer writer = header(TYPE_INTAKE_LIST, list.size());
+            for (Object element : list) {
+                writeIntake(writer, (IntakeResponseDto) element);
+            }
+            return writer.toByteArray();
+        }
+        if (allInstancesOf(list, MealTemplateResponseDto.class)) {
+            Writer writer = header(TYPE_TEMPLATE_LIST, list.size());
+            for (Object element : list) {
+                writeTemplate(writer, (MealTemplateResponseDto) element);
+            }
+            return writer.toByteArray();
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != VERSION && bytes[1] != UNVERSIONED_INTAKES) {
+            throw new SerializationException("Unsupported compact cache format version");
+        }
+        try {
+            Reader reader = new Reader(bytes, 3);
+            return switch (bytes[2]) {
+                case TYPE_EMPTY_LIST -> new ArrayList<>();
+                case TYPE_INTAKE_LIST -> readIntakes(reader, bytes[1] == VERSION);
+                case TYPE_TEMPLATE_LIST -> readTemplates(reader);
+                default -> throw new SerializationException(
+                        "Unknown compact cache payload type " + bytes[2]);
+            };
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to read compact cache payload", e);
+        }
+    }
+
+    private boolean allInstancesOf(List<?> list, Class<?> type) {
+        for (Object element : list) {
+            if (!type.isInstance(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Writer header(byte type, int size) {
+        Writer writer = new Writer();
+        writer.writeByte(MAGIC);
+        writer.writeByte(VERSION);
+        writer.writeByte(type);
+        writer.writeVarInt(size);
+        return writer;
+    }
+
+    private void writeIntake(Writer writer, IntakeResponseDto intake) {
+        writer.writeNullableLong(intake.getId());
+        writer.writeString(intake.getMealGroupId());
+        writer.writeString(intake.getFoodName());
+        writer.writeVarLong(intake.getAmount());
+        writer.writeString(intake.getUnitType() != null ? intake.getUnitType().name() : null);
+        writer.writeNullableLong(intake.getDate() != null ? intake.getDate().toEpochDay() : null);
+        writer.writeString(intake.getIntakePeriod() != null
+                ? intake.getIntakePeriod().name() : null);
+        writeNutriments(writer, intake.getNutriments());
+        writer.writeNullableLong(intake.getVersion());
+    }
+
+    private void writeTemplate(Writer writer, MealTemplateResponseDto template) {
+        writer.writeNullableLong(template.getId());
+        writer.writeString(template.getName());
+        List<MealTemplateItemDto> items = template.getItems();
+        if (items == null) {
+            writer.writeVarInt(0);
+            return;
+        }
+        writer.writeVarInt(items.size() + 1);
+        for (MealTemplateItemDto item : items) {
+            writer.writeString(item.getFoodId());
+            writer.writeString(item.getFoodName());
+            writer.writeVarLong(item.getAmount());
+            writer.writeString(item.getUnitType() != null ? item.getUnitType().name() : null);
+            writeNutriments(writer, item.getNutriments());
+        }
+    }
+
+    private void writeNutriments(Writer writer, NutrimentsDto nutriments) {
+        if (nutriments == null) {
+            writer.writeByte((byte) 0);
+            return;
+        }
+        writer.writeByte((byte) 1);
+        writer.writeDecimal(nutriments.getCalories());
+        writer.writeDecimal(nutriments.getFat());
+        writer.writeDecimal(nutriments.getProtein());
+        writer.writeDecimal(nutriments.getCarbohydrates());
+        writer.writeDecimal(nutriments.getCaloriesPerPiece());
+        writer.writeDecimal(nutriments.getFatPerPiece());
+        writer.writeDecimal(nutriments.getProteinPerPiece());
+        writer.writeDecimal(nutriments.getCarbohydratesPerPiece());
+    }
+
+    private List<IntakeResponseDto> readIntakes(Reader reader, boolean versioned) {
+        int size = reader.readVarInt();
+        List<IntakeResponseDto> intakes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            IntakeResponseDto intake = new IntakeResponseDto();
+            intake.setId(reader.readNullableLong());
+            intake.setMealGroupId(reader.readString());
+            intake.setFoodName(reader.readString());
+            intake.setAmount((int) reader.readVarLong());
+            String unitType = reader.readString();
+            intake.setUnitType(unitType != null ? UnitType.valueOf(unitType) : null);
+            Long epochDay = reader.readNullableLong();
+            intake.setDate(epochDay != null ? LocalDate.ofEpochDay(epochDay) : null);
+            String period = reader.readString();
+            intake.setIntakePeriod(period != null ? IntakePeriod.valueOf(period) : null);
+            intake.setNutriments(readNutriments(reader));
+            if (versioned) {
+                intake.setVersion(reader.readNullableLong());
+            }
+            intakes.add(intake);
+        }
+        return intakes;
+    }
+
+    private List<MealTemplateResponseDto> readTemplates(Reader reader) {
+        int size = reader.readVarInt();
+        List<MealTemplateResponseDto> templates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MealTemplateResponseDto template = new MealTemplateResponseDto();
+            template.setId(reader.readNullableLong());
+            template.setName(reader.readString());
+            int itemCount = reader.readVarInt() - 1;
+            if (itemCount >= 0) {
+                List<MealTemplateItemDto> items = new ArrayList<>(itemCount);
+                for (int j = 0; j < itemCount; j++) {
+                    MealTemplateItemDto item = new MealTemplateItemDto();
+                    item.setFoodId(reader.readString());
+                    item.setFoodName(reader.readString());
+                    item.setAmount((int) reader.readVarLong());
+                    String unitType = reader.readString();
+                    item.setUnitType(unitType != null ? UnitType.valueOf(unitType) : null);
+                    item.setNutriments(readNutriments(reader));
+                    items.add(item);
+                }
+                template.setItems(items);
+            }
+            templates.add(template);
+        }
+        return templates;
+    }
+
+    private NutrimentsDto readNutriments(Reader reader) {
+        if (reader.readByte() == 0) {
+            return null;
+        }
+        NutrimentsDto nutriments = new NutrimentsDto();
+        nutriments.setCalories(reader.readDecimal());
+        nutriments.setFat(reader.readDecimal());
+        nutriments.setProtein(reader.readDecimal());
+        nutriments.setCarbohydrates(reader.readDecimal());
+        nutriments.setCaloriesPerPiece(reader.readDecimal());
+        nutriments.setFatPerPiece(reader.readDecimal());
+        nutriments.setProteinPerPiece(reader.readDecimal());
+        nutriments.setCarbohydratesPerPiece(reader.readDecimal());
+        return nutriments;
+    }
+
+    private static final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        void writeByte(byte value) {
+            out.write(value);
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value);
+        }
+
+        void writeVarLong(long value) {
+            long zigZag = (value << 1) ^ (value >> 63);
+            while ((zigZag & ~0x7FL) != 0) {
+                out.write((int) ((zigZag & 0x7F) | 0x80));
+                zigZag >>>= 7;
+            }
+            out.write((int) zigZag);
+        }
+
+        void writeNullableLong(Long value) {
+            if (value == null) {
+                out.write(0);
+                return;
+            }
+            out.write(1);
+            writeVarLong(value);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            out.writeBytes(bytes);
+        }
+
+        void writeDecimal(BigDecimal value) {
+            if (value == null) {
+                writeByte((byte) DECIMAL_NULL);
+                return;
+            }
+            BigInteger unscaled = value.unscaledValue();
+            int scale = value.scale();
+            if (unscaled.bitLength() < Long.SIZE && scale > DECIMAL_WIDE
+                    && scale <= Byte.MAX_VALUE) {
+                writeByte((byte) scale);
+                writeVarLong(unscaled.longValue());
+                return;
+            }
+            writeByte((byte) DECIMAL_WIDE);
+            writeString(value.toString());
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return bytes[position++];
+        }
+
+        int readVarInt() {
+            return Math.toIntExact(readVarLong());
+        }
+
+        long readVarLong() {
+            long zigZag = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = bytes[position++];
+                zigZag |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return (zigZag >>> 1) ^ -(zigZag & 1);
+        }
+
+        Long readNullableLong() {
+            return readByte() == 0 ? null : readVarLong();
+        }
+
+        String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        BigDecimal readDecimal() {
+            int scale = readByte();
+            if (scale == DECIMAL_NULL) {
+                return null;
+            }
+            if (scale == DECIMAL_WIDE) {
+                return new BigDecimal(readString());
+            }
+            return BigDecimal.valueOf(readVarLong(), scale);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class FoodCatalogCache {
+    private static final String NAME = "food-catalog";
+    private final Cache<String, FoodDto> cache;
+    private final Cache<String, Boolean> reloads;
+    private final Counter upstreamCallsSaved;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final long reloadWindowNanos;
+    private volatile long reloadAllUntil = System.nanoTime();
+
+    public FoodCatalogCache(long maximumSize, Duration ttl, Duration reloadWindow,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.reloads = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(reloadWindow)
+                .build();
+        this.reloadWindowNanos = reloadWindow.toNanos();
+        this.upstreamCallsSaved = meterRegistry.counter("food.catalog.upstream.saved");
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+        Gauge.builder("food.catalog.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+    }
+
+    public FoodDto get(String foodId, Function<String, FoodDto> loader) {
+        FoodDto cached = cache.getIfPresent(foodId);
+        if (cached != null) {
+            upstreamCallsSaved.increment();
+            return cached;
+        }
+        long generation = invalidations.get();
+        FoodDto food = loader.apply(foodId);
+        if (food != null && invalidations.get() == generation) {
+            cache.put(foodId, food);
+        }
+        return food;
+    }
+
+    public List<FoodDto> getAll(List<String> foodIds,
+                                Function<List<String>, List<FoodDto>> loader) {
+        LinkedHashSet<String> ids = new LinkedHashSet<>(foodIds);
+        Map<String, FoodDto> present = cache.getAllPresent(ids);
+        List<String> missing = ids.stream()
+                .filter(id -> !present.containsKey(id))
+                .toList();
+        if (missing.isEmpty()) {
+            upstreamCallsSaved.increment();
+            return ids.stream().map(present::get).toList();
+        }
+        long generation = invalidations.get();
+        List<FoodDto> foods = loader.apply(missing);
+        Map<String, FoodDto> loaded = new HashMap<>();
+        if (foods != null) {
+            foods.forEach(food -> loaded.put(food.getId(), food));
+        }
+        if (invalidations.get() == generation) {
+            cache.putAll(loaded);
+        }
+        Map<String, FoodDto> found = new LinkedHashMap<>();
+        for (String id : ids) {
+            FoodDto food = present.containsKey(id) ? present.get(id) : loaded.get(id);
+            if (food != null) {
+                found.put(id, food);
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    public boolean requiresReload(String foodId) {
+        return System.nanoTime() - reloadAllUntil < 0 || reloads.getIfPresent(foodId) != null;
+    }
+
+    public void invalidate(String foodId) {
+        reloads.put(foodId, Boolean.TRUE);
+        evict(foodId);
+    }
+
+    public void invalidateAll() {
+        reloadAllUntil = System.nanoTime() + reloadWindowNanos;
+        evictAll();
+    }
+
+    public void evict(String foodId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(foodId);
+    }
+
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
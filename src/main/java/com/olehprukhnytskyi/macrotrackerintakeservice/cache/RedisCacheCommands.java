@@ -0,0 +1,144 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+
+@Slf4j
+public class RedisCacheCommands {
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<byte[], byte[]> redisTemplate;
+
+    public RedisCacheCommands(RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setEnableDefaultSerializer(false);
+        this.redisTemplate.afterPropertiesSet();
+    }
+
+    public Object patch(RedisCache cache, String key, UnaryOperator<Object> patch) {
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        byte[] redisKey = redisKey(cache, key);
+        try {
+            return redisTemplate.execute(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations)
+                        throws DataAccessException {
+                    RedisOperations<byte[], byte[]> ops =
+                            (RedisOperations<byte[], byte[]>) operations;
+                    ops.watch(redisKey);
+                    byte[] current = ops.opsForValue().get(redisKey);
+                    if (current == null) {
+                        ops.unwatch();
+                        return null;
+                    }
+                    Object patched = patch.apply(config.getValueSerializationPair()
+                            .read(ByteBuffer.wrap(current)));
+                    if (patched == null) {
+                        ops.unwatch();
+                        return null;
+                    }
+                    byte[] value = ByteUtils.getBytes(config.getValueSerializationPair()
+                            .write(patched));
+                    Long ttl = ops.getExpire(redisKey, TimeUnit.MILLISECONDS);
+                    ops.multi();
+                    if (ttl != null && ttl > 0) {
+                        ops.opsForValue().set(redisKey, value, ttl, TimeUnit.MILLISECONDS);
+                    } else {
+                        ops.opsForValue().set(redisKey, value);
+                    }
+                    List<Object> results = ops.exec();
+                    return results == null || results.isEmpty() ? null : patched;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to patch cache entry cache={} key={}", cache.getName(), key, e);
+            return null;
+        }
+    }
+
+    public Map<String, Object> getAll(RedisCache cache, List<String> keys) {
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        List<byte[]> redisKeys = keys.stream()
+                .map(key -> redisKey(cache, key))
+                .toList();
+        List<byte[]> values = redisTemplate.opsForValue().multiGet(redisKeys);
+        Map<String, Object> found = new HashMap<>();
+        for (int i = 0; values != null && i < keys.size(); i++) {
+            byte[] value = values.get(i);
+            if (value != null) {
+                found.put(keys.get(i), config.getValueSerializationPair()
+                        .read(ByteBuffer.wrap(value)));
+            }
+        }
+        return found;
+    }
+
+    public Set<String> putAllIfAbsent(RedisCache cache, Map<String, Object> entries) {
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        List<String> keys = new ArrayList<>(entries.keySet());
+        RedisCallback<Object> callback = connection -> {
+            for (String key : keys) {
+                Object value = entries.get(key);
+                byte[] serialized = ByteUtils.getBytes(config.getValueSerializationPair()
+                        .write(value));
+                Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+                Expiration expiration = ttl.isZero() || ttl.isNegative()
+                        ? Expiration.persistent() : Expiration.from(ttl);
+                connection.stringCommands().set(redisKey(cache, key), serialized, expiration,
+                        RedisStringCommands.SetOption.ifAbsent());
+            }
+            return null;
+        };
+        List<Object> results = redisTemplate.executePipelined(callback);
+        Set<String> written = new HashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                written.add(keys.get(i));
+            }
+        }
+        return written;
+    }
+
+    public long deleteAll(RedisCache cache, Collection<String> keys) {
+        List<byte[]> redisKeys = keys.stream()
+                .map(key -> redisKey(cache, key))
+                .toList();
+        long deleted = 0;
+        for (int from = 0; from < redisKeys.size(); from += DELETE_BATCH_SIZE) {
+            List<byte[]> batch = redisKeys.subList(from,
+                    Math.min(from + DELETE_BATCH_SIZE, redisKeys.size()));
+            Long count = redisTemplate.delete(batch);
+            deleted += count != null ? count : 0;
+        }
+        return deleted;
+    }
+
+    private byte[] redisKey(RedisCache cache, String key) {
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        return ByteUtils.getBytes(config.getKeySerializationPair()
+                .write(config.getKeyPrefixFor(cache.getName()) + key));
+    }
+}
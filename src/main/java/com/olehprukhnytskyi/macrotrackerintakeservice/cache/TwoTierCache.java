@@ -0,0 +1,330 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+public class TwoTierCache implements Cache {
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheLoadLease lease;
+    private final RedisCacheCommands commands;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter localCoalesced;
+    private final Counter remoteCoalesced;
+    private final Timer loadTimer;
+
+    public TwoTierCache(String name, Cache remote,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                        CacheInvalidationPublisher publisher, CacheLoadLease lease,
+                        RedisCacheCommands commands, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.publisher = publisher;
+        this.lease = lease;
+        this.commands = commands;
+        this.localHits = tierCounter(meterRegistry, "l1", "hit");
+        this.localMisses = tierCounter(meterRegistry, "l1", "miss");
+        this.remoteHits = tierCounter(meterRegistry, "l2", "hit");
+        this.remoteMisses = tierCounter(meterRegistry, "l2", "miss");
+        this.localCoalesced = coalescedCounter(meterRegistry, "local");
+        this.remoteCoalesced = coalescedCounter(meterRegistry, "remote");
+        this.loadTimer = Timer.builder("cache.load")
+                .description("Time spent in cache value loaders")
+                .tag("cache", name)
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.tier.size", Tags.of("cache", name, "tier", "l1"),
+                local, c -> c.estimatedSize());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+        localMisses.increment();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        if (wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type ["
+                    + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        String localKey = toLocalKey(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            localCoalesced.increment();
+            return (T) await(existing);
+        }
+        try {
+            Object value = load(key, localKey, valueLoader);
+            flight.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = toLocalKey(key);
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        publisher.publish(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        String localKey = toLocalKey(key);
+        if (existing == null) {
+            if (value != null) {
+                local.put(localKey, value);
+            }
+            publisher.publish(name, localKey);
+        } else if (existing.get() != null) {
+            local.put(localKey, existing.get());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        publisher.publish(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        publisher.publish(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        publisher.publish(name, null);
+        return invalidated;
+    }
+
+    public Map<String, Object> getAll(List<String> keys) {
+        Map<String, Object> found = new HashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : keys) {
+            Object value = local.getIfPresent(key);
+            if (value != null) {
+                localHits.increment();
+                found.put(key, value);
+            } else {
+                localMisses.increment();
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return found;
+        }
+        Map<String, Object> remoteValues;
+        if (commands != null && remote instanceof RedisCache redisCache) {
+            remoteValues = commands.getAll(redisCache, remoteKeys);
+        } else {
+            remoteValues = new HashMap<>();
+            for (String key : remoteKeys) {
+                ValueWrapper wrapper = remote.get(key);
+                if (wrapper != null && wrapper.get() != null) {
+                    remoteValues.put(key, wrapper.get());
+                }
+            }
+        }
+        remoteHits.increment(remoteValues.size());
+        remoteMisses.increment(remoteKeys.size() - remoteValues.size());
+        local.putAll(remoteValues);
+        found.putAll(remoteValues);
+        return found;
+    }
+
+    public void putAllIfAbsent(Map<String, Object> entries) {
+        if (commands != null && remote instanceof RedisCache redisCache) {
+            for (String key : commands.putAllIfAbsent(redisCache, entries)) {
+                local.put(key, entries.get(key));
+            }
+            return;
+        }
+        entries.forEach(this::putIfAbsent);
+    }
+
+    public void evictAll(Collection<String> keys) {
+        if (commands != null && remote instanceof RedisCache redisCache) {
+            commands.deleteAll(redisCache, keys);
+        } else {
+            keys.forEach(remote::evict);
+        }
+        local.invalidateAll(keys);
+        publisher.publish(name, null);
+    }
+
+    public boolean patch(Object key, UnaryOperator<Object> patch) {
+        String localKey = toLocalKey(key);
+        Object patched = commands != null && remote instanceof RedisCache redisCache
+                ? commands.patch(redisCache, localKey, patch) : null;
+        if (patched == null) {
+            evict(key);
+            return false;
+        }
+        local.put(localKey, patched);
+        publisher.publish(name, localKey);
+        return true;
+    }
+
+    void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        boolean leased = lease.tryAcquire(name, localKey);
+        try {
+            if (!leased) {
+                ValueWrapper wrapper = lease.awaitValue(() -> remote.get(key));
+                if (wrapper != null) {
+                    remoteCoalesced.increment();
+                    if (wrapper.get() != null) {
+                        local.put(localKey, wrapper.get());
+                    }
+                    return wrapper.get();
+                }
+            }
+            Object value;
+            Timer.Sample sample = Timer.start();
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            } finally {
+                sample.stop(loadTimer);
+            }
+            put(key, value);
+            return value;
+        } finally {
+            if (leased) {
+                lease.release(name, localKey);
+            }
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .description("Cache lookups per tier of the two-tier cache")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter coalescedCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("cache.load.coalesced")
+                .description("Cache misses served by another caller's load")
+                .tag("cache", name)
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.config;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.FoodCatalogCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FoodCacheConfig {
+    @Bean
+    public FoodCatalogCache foodCatalogCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.food-cache.maximum-size:5000}") long maximumSize,
+            @Value("${app.food-cache.ttl:10m}") Duration ttl,
+            @Value("${app.food-cache.reload-window:1m}") Duration reloadWindow) {
+        return new FoodCatalogCache(maximumSize, ttl, reloadWindow, meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.config;
+
+import com.olehprukhnytskyi.exception.NotFoundException;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.FoodServiceGuard;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FoodServiceResilienceConfig {
+    @Bean
+    public FoodServiceGuard foodServiceGuard(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            RetryRegistry retryRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${app.food-service.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.food-service.open-state-duration:10s}") Duration openStateDuration,
+            @Value("${app.food-service.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${app.food-service.timeout:2s}") Duration timeout,
+            @Value("${app.food-service.slow-call-threshold:1s}") Duration slowCallThreshold,
+            @Value("${app.food-service.max-attempts:3}") int maxAttempts,
+            @Value("${app.food-service.retry-interval:200ms}") Duration retryInterval) {
+        return new FoodServiceGuard(
+                circuitBreakerRegistry.circuitBreaker(FoodServiceGuard.NAME,
+                        circuitBreakerConfig(failureRateThreshold, openStateDuration,
+                                slowCallThreshold)),
+                bulkheadRegistry.bulkhead(FoodServiceGuard.NAME, BulkheadConfig.custom()
+                        .maxConcurrentCalls(maxConcurrentCalls)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()),
+                timeLimiterRegistry.timeLimiter(FoodServiceGuard.NAME, TimeLimiterConfig.custom()
+                        .timeoutDuration(timeout)
+                        .build()),
+                retryRegistry.retry(FoodServiceGuard.NAME, retryConfig(maxAttempts, retryInterval)),
+                meterRegistry);
+    }
+
+    public static CircuitBreakerConfig circuitBreakerConfig(float failureRateThreshold,
+                                                            Duration openStateDuration,
+                                                            Duration slowCallThreshold) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .waitDurationInOpenState(openStateDuration)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreExceptions(FeignException.FeignClientException.class,
+                        NotFoundException.class, BulkheadFullException.class)
+                .build();
+    }
+
+    public static RetryConfig retryConfig(int maxAttempts, Duration retryInterval) {
+        return RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        retryInterval, 2.0, 0.5))
+                .retryOnException(FoodServiceResilienceConfig::isRetryable)
+                .build();
+    }
+
+    private static boolean isRetryable(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (cause instanceof TimeoutException) {
+            return true;
+        }
+        return cause instanceof FeignException
+                && !(cause instanceof FeignException.FeignClientException);
+    }
+}
@@ -0,0 +1,204 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.config;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.NutrimentsMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.DailySummaryService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.FoodClientService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeCacheWriter;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeOutboxWriter;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.IdRangePartitioner;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.IntakeRecomputeWriter;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.IntakeRowMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.MealTemplateItemRecomputeWriter;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.MealTemplateItemRowMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.RecomputeCacheInvalidationTasklet;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.TransactionalPagingItemReader;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.NutrientStrategyFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class IntakeRecomputeJobConfig {
+    public static final String JOB_NAME = "intakeRecomputeJob";
+    public static final String WORKER_STEP = "intakeRecomputeWorkerStep";
+    public static final String DRY_RUN = "dryRun";
+    public static final String REFRESH_FOODS = "refreshFoods";
+
+    @Value("${app.recompute.chunk-size:500}")
+    private int chunkSize;
+    @Value("${app.recompute.partitions:16}")
+    private int partitions;
+    @Value("${app.recompute.threads:4}")
+    private int threads;
+    @Value("${app.recompute.max-tracked-days:10000}")
+    private int maxTrackedDays;
+
+    @Bean
+    public Job intakeRecomputeJob(JobRepository jobRepository, Step intakeRecomputeManagerStep,
+                                  Step mealTemplateItemRecomputeStep,
+                                  Step intakeRecomputeCacheStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(intakeRecomputeManagerStep)
+                .next(mealTemplateItemRecomputeStep)
+                .next(intakeRecomputeCacheStep)
+                .build();
+    }
+
+    @Bean
+    public Step intakeRecomputeManagerStep(JobRepository jobRepository,
+                                           JdbcTemplate jdbcTemplate,
+                                           Step intakeRecomputeWorkerStep) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("intake-recompute-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(threads);
+        return new StepBuilder("intakeRecomputeManagerStep", jobRepository)
+                .partitioner(WORKER_STEP, new IdRangePartitioner(jdbcTemplate, "intake"))
+                .step(intakeRecomputeWorkerStep)
+                .gridSize(partitions)
+                .taskExecutor(executor)
+                .build();
+    }
+
+    @Bean
+    public Step intakeRecomputeWorkerStep(JobRepository jobRepository,
+                                          JdbcPagingItemReader<Intake> intakeRecomputeReader,
+                                          IntakeRecomputeWriter intakeRecomputeWriter) {
+        return new StepBuilder(WORKER_STEP, jobRepository)
+                .<Intake, Intake>chunk(chunkSize, new ResourcelessTransactionManager())
+                .reader(intakeRecomputeReader)
+                .writer(intakeRecomputeWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Intake> intakeRecomputeReader(
+            DataSource dataSource,
+            TransactionTemplate transactionTemplate,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) throws Exception {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(dataSource);
+        queryProvider.setSelectClause("SELECT " + IntakeRowMapper.COLUMNS);
+        queryProvider.setFromClause("FROM intake");
+        queryProvider.setWhereClause("WHERE id BETWEEN :minId AND :maxId");
+        queryProvider.setSortKey("id");
+        TransactionalPagingItemReader<Intake> reader =
+                new TransactionalPagingItemReader<>(transactionTemplate);
+        reader.setName("intakeRecomputeReader");
+        reader.setDataSource(dataSource);
+        reader.setQueryProvider(queryProvider.getObject());
+        reader.setParameterValues(Map.of(IdRangePartitioner.MIN_ID, minId,
+                IdRangePartitioner.MAX_ID, maxId));
+        reader.setPageSize(chunkSize);
+        reader.setRowMapper(new IntakeRowMapper());
+        return reader;
+    }
+
+    @Bean
+    @StepScope
+    public IntakeRecomputeWriter intakeRecomputeWriter(
+            NutrientStrategyFactory strategyFactory,
+            NutrimentsMapper nutrimentsMapper,
+            FoodClientService foodClientService,
+            DailySummaryService dailySummaryService,
+            IntakeOutboxWriter intakeOutboxWriter,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("#{jobParameters['dryRun']}") Boolean dryRun,
+            @Value("#{jobParameters['refreshFoods']}") Boolean refreshFoods) {
+        return new IntakeRecomputeWriter(strategyFactory, nutrimentsMapper, foodClientService,
+                dailySummaryService, intakeOutboxWriter, jdbcTemplate, transactionTemplate,
+                new IntakeRecomputeWriter.Options(Boolean.TRUE.equals(dryRun),
+                        Boolean.TRUE.equals(refreshFoods), maxTrackedDays),
+                meterRegistry);
+    }
+
+    @Bean
+    public Step mealTemplateItemRecomputeStep(
+            JobRepository jobRepository,
+            JdbcPagingItemReader<MealTemplateItem> mealTemplateItemRecomputeReader,
+            MealTemplateItemRecomputeWriter mealTemplateItemRecomputeWriter) {
+        return new StepBuilder("mealTemplateItemRecomputeStep", jobRepository)
+                .<MealTemplateItem, MealTemplateItem>chunk(chunkSize,
+                        new ResourcelessTransactionManager())
+                .reader(mealTemplateItemRecomputeReader)
+                .writer(mealTemplateItemRecomputeWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<MealTemplateItem> mealTemplateItemRecomputeReader(
+            DataSource dataSource, TransactionTemplate transactionTemplate) throws Exception {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(dataSource);
+        queryProvider.setSelectClause("SELECT " + MealTemplateItemRowMapper.COLUMNS);
+        queryProvider.setFromClause(MealTemplateItemRowMapper.FROM);
+        queryProvider.setSortKey("id");
+        TransactionalPagingItemReader<MealTemplateItem> reader =
+                new TransactionalPagingItemReader<>(transactionTemplate);
+        reader.setName("mealTemplateItemRecomputeReader");
+        reader.setDataSource(dataSource);
+        reader.setQueryProvider(queryProvider.getObject());
+        reader.setPageSize(chunkSize);
+        reader.setRowMapper(new MealTemplateItemRowMapper());
+        return reader;
+    }
+
+    @Bean
+    @StepScope
+    public MealTemplateItemRecomputeWriter mealTemplateItemRecomputeWriter(
+            NutrientStrategyFactory strategyFactory,
+            NutrimentsMapper nutrimentsMapper,
+            FoodClientService foodClientService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            CacheManager cacheManager,
+            @Value("#{jobParameters['dryRun']}") Boolean dryRun,
+            @Value("#{jobParameters['refreshFoods']}") Boolean refreshFoods) {
+        return new MealTemplateItemRecomputeWriter(strategyFactory, nutrimentsMapper,
+                foodClientService, jdbcTemplate, transactionTemplate, cacheManager,
+                new IntakeRecomputeWriter.Options(Boolean.TRUE.equals(dryRun),
+                        Boolean.TRUE.equals(refreshFoods), maxTrackedDays));
+    }
+
+    @Bean
+    @StepScope
+    public RecomputeCacheInvalidationTasklet recomputeCacheInvalidationTasklet(
+            JobExplorer jobExplorer, IntakeCacheWriter intakeCacheWriter,
+            @Value("#{jobParameters['dryRun']}") Boolean dryRun) {
+        return new RecomputeCacheInvalidationTasklet(jobExplorer, intakeCacheWriter,
+                WORKER_STEP, Boolean.TRUE.equals(dryRun));
+    }
+
+    @Bean
+    public Step intakeRecomputeCacheStep(JobRepository jobRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         RecomputeCacheInvalidationTasklet tasklet) {
+        return new StepBuilder("intakeRecomputeCacheStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+}
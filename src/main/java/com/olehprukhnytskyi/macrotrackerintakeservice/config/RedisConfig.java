@@ -7,25 +7,37 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheGenerations;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheInvalidationListener;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheInvalidationPublisher;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheLoadLease;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CompactCacheSerializer;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.RedisCacheCommands;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.TwoTierCacheManager;
 import com.olehprukhnytskyi.macrotrackerintakeservice.util.BigDecimalJsonSerializer;
 import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 public class RedisConfig {
-    private ObjectMapper createRedisObjectMapper() {
+    public static ObjectMapper createRedisObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -63,10 +75,14 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager redisCacheManager(
+            RedisConnectionFactory connectionFactory,
+            @Value("${app.cache.compact-format.enabled:true}") boolean compactFormatEnabled) {
         ObjectMapper redisObjectMapper = createRedisObjectMapper();
         GenericJackson2JsonRedisSerializer serializer =
                 new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        CompactCacheSerializer compactSerializer =
+                new CompactCacheSerializer(serializer, compactFormatEnabled);
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(1))
@@ -76,12 +92,77 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(serializer));
 
+        RedisCacheConfiguration compactConfig = defaultConfig
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(compactSerializer));
+
         Map<String, RedisCacheConfiguration> configs = new HashMap<>();
-        configs.put(CacheConstants.USER_INTAKES, defaultConfig.entryTtl(Duration.ofHours(6)));
+        configs.put(CacheConstants.USER_INTAKES, compactConfig.entryTtl(Duration.ofHours(6)));
+        configs.put(CacheConstants.MEAL_TEMPLATES, compactConfig);
+        configs.put(CacheConstants.USER_INTAKES_HISTORY,
+                defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        configs.put(CacheConstants.USER_NUTRITION_ROLLUPS,
+                defaultConfig.entryTtl(Duration.ofDays(7)));
 
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(configs)
                 .build();
     }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(
+            RedisConnectionFactory connectionFactory, ObjectMapper objectMapper,
+            @Value("${app.cache.invalidation-channel:intake-service:cache-invalidation}")
+            String channel) {
+        return new CacheInvalidationPublisher(connectionFactory, objectMapper, channel);
+    }
+
+    @Bean
+    public CacheLoadLease cacheLoadLease(
+            RedisConnectionFactory connectionFactory,
+            @Value("${app.cache.lease.enabled:false}") boolean enabled,
+            @Value("${app.cache.lease.ttl:3s}") Duration ttl,
+            @Value("${app.cache.lease.poll-interval:50ms}") Duration pollInterval) {
+        return new CacheLoadLease(connectionFactory, enabled, ttl, pollInterval);
+    }
+
+    @Bean
+    public CacheGenerations cacheGenerations(RedisConnectionFactory connectionFactory) {
+        return new CacheGenerations(connectionFactory);
+    }
+
+    @Bean
+    public RedisCacheCommands redisCacheCommands(RedisConnectionFactory connectionFactory) {
+        return new RedisCacheCommands(connectionFactory);
+    }
+
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(
+            RedisCacheManager redisCacheManager,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            CacheLoadLease cacheLoadLease,
+            RedisCacheCommands redisCacheCommands,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.local.maximum-size:10000}") long localMaximumSize,
+            @Value("${app.cache.local.ttl:60s}") Duration localTtl) {
+        return new TwoTierCacheManager(redisCacheManager, cacheInvalidationPublisher,
+                cacheLoadLease, redisCacheCommands, meterRegistry, localMaximumSize, localTtl);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoTierCacheManager cacheManager,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener(cacheManager, cacheInvalidationPublisher,
+                        objectMapper),
+                new ChannelTopic(cacheInvalidationPublisher.getChannel()));
+        return container;
+    }
 }
@@ -0,0 +1,112 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olehprukhnytskyi.event.UserDeletedEvent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.consumer.UserEventConsumer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+@Configuration
+public class UserEventKafkaConfig {
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final KafkaProperties kafkaProperties;
+    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, Object> deadLetterTemplate;
+
+    @Value("${app.kafka.user-deleted.max-poll-interval:30m}")
+    private Duration maxPollInterval;
+
+    public UserEventKafkaConfig(KafkaProperties kafkaProperties, ObjectMapper objectMapper) {
+        this.kafkaProperties = kafkaProperties;
+        this.objectMapper = objectMapper;
+        this.deadLetterTemplate = createDeadLetterTemplate();
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserDeletedEvent>
+            userDeletedListenerContainerFactory(
+                    @Value("${app.kafka.user-deleted.concurrency:3}") int concurrency,
+                    @Value("${app.kafka.user-deleted.max-poll-records:10}") int maxPollRecords) {
+        ConcurrentKafkaListenerContainerFactory<String, UserDeletedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(createConsumerFactory(maxPollRecords));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                new DeadLetterPublishingRecoverer(deadLetterTemplate, (record, e) ->
+                        new TopicPartition(UserEventConsumer.isValid(record.value())
+                                ? UserEventConsumer.RETRY_TOPIC
+                                : UserEventConsumer.DLT_TOPIC, -1)),
+                new FixedBackOff(0L, 0L)));
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserDeletedEvent>
+            userDeletedRetryListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UserDeletedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(createConsumerFactory(1));
+        return factory;
+    }
+
+    @Bean
+    public RetryTopicConfiguration userDeletedRetryTopicConfiguration(
+            @Value("${app.kafka.user-deleted.retry-attempts:4}") int retryAttempts,
+            @Value("${app.kafka.user-deleted.retry-delay:1s}") Duration retryDelay) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(UserEventConsumer.RETRY_TOPIC)
+                .maxAttempts(retryAttempts)
+                .exponentialBackoff(retryDelay.toMillis(), 2.0, MAX_RETRY_DELAY.toMillis())
+                .suffixTopicsWithIndexValues()
+                .dltSuffix("-dlt")
+                .listenerFactory("userDeletedRetryListenerContainerFactory")
+                .create(deadLetterTemplate);
+    }
+
+    private ConsumerFactory<String, UserDeletedEvent> createConsumerFactory(int maxPollRecords) {
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties(null);
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        properties.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG,
+                (int) maxPollInterval.toMillis());
+        JsonDeserializer<UserDeletedEvent> valueDeserializer =
+                new JsonDeserializer<>(UserDeletedEvent.class, objectMapper, false);
+        return new DefaultKafkaConsumerFactory<>(properties, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(valueDeserializer));
+    }
+
+    private KafkaTemplate<String, Object> createDeadLetterTemplate() {
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(Object.class, new JsonSerializer<>(objectMapper));
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(null), new StringSerializer(),
+                new DelegatingByTypeSerializer(valueSerializers, true)));
+    }
+}
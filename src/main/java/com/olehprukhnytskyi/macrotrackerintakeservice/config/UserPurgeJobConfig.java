@@ -0,0 +1,115 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.config;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.MealTemplateRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.DailySummaryService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeCacheWriter;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.purge.IdRangePurgeTasklet;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.purge.UserPurgeCacheListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class UserPurgeJobConfig {
+    public static final String JOB_NAME = "userPurgeJob";
+
+    @Value("${app.purge.chunk-size:1000}")
+    private int chunkSize;
+    @Value("${app.purge.pause:50ms}")
+    private Duration pause;
+
+    @Bean
+    public Job userPurgeJob(JobRepository jobRepository, Step purgeIntakesStep,
+                            Step purgeMealTemplatesStep, Step purgeDailySummaryStep,
+                            IntakeRepository intakeRepository,
+                            IntakeCacheWriter intakeCacheWriter,
+                            CacheManager cacheManager) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(new UserPurgeCacheListener(intakeRepository, intakeCacheWriter,
+                        cacheManager))
+                .start(purgeIntakesStep)
+                .next(purgeMealTemplatesStep)
+                .next(purgeDailySummaryStep)
+                .build();
+    }
+
+    @Bean
+    public Step purgeIntakesStep(JobRepository jobRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 IntakeRepository intakeRepository,
+                                 MeterRegistry meterRegistry) {
+        IdRangePurgeTasklet tasklet = new IdRangePurgeTasklet("intake",
+                new IdRangePurgeTasklet.PurgeTarget() {
+                    @Override
+                    public Long findChunkUpperId(Long userId, long afterId, int limit) {
+                        return intakeRepository.findPurgeChunkUpperId(userId, afterId, limit);
+                    }
+
+                    @Override
+                    public int deleteRange(Long userId, long afterId, long upToId) {
+                        return intakeRepository.deleteByUserIdAndIdRange(userId, afterId, upToId);
+                    }
+                }, chunkSize, pause, meterRegistry);
+        return purgeStep("purgeIntakesStep", tasklet, jobRepository, transactionManager);
+    }
+
+    @Bean
+    public Step purgeMealTemplatesStep(JobRepository jobRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       MealTemplateRepository mealTemplateRepository,
+                                       MeterRegistry meterRegistry) {
+        IdRangePurgeTasklet tasklet = new IdRangePurgeTasklet("meal_template",
+                new IdRangePurgeTasklet.PurgeTarget() {
+                    @Override
+                    public Long findChunkUpperId(Long userId, long afterId, int limit) {
+                        return mealTemplateRepository.findPurgeChunkUpperId(
+                                userId, afterId, limit);
+                    }
+
+                    @Override
+                    public int deleteRange(Long userId, long afterId, long upToId) {
+                        mealTemplateRepository.deleteItemsByUserIdAndTemplateIdRange(
+                                userId, afterId, upToId);
+                        return mealTemplateRepository.deleteByUserIdAndIdRange(
+                                userId, afterId, upToId);
+                    }
+                }, chunkSize, pause, meterRegistry);
+        return purgeStep("purgeMealTemplatesStep", tasklet, jobRepository, transactionManager);
+    }
+
+    @Bean
+    public Step purgeDailySummaryStep(JobRepository jobRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      DailySummaryService dailySummaryService) {
+        return new StepBuilder("purgeDailySummaryStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Long userId = (Long) chunkContext.getStepContext().getJobParameters()
+                            .get(IdRangePurgeTasklet.USER_ID);
+                    dailySummaryService.deleteByUserId(userId);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    private Step purgeStep(String name, IdRangePurgeTasklet tasklet, JobRepository jobRepository,
+                           PlatformTransactionManager transactionManager) {
+        return new StepBuilder(name, jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .listener((ChunkListener) tasklet)
+                .listener((StepExecutionListener) tasklet)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olehprukhnytskyi.exception.EventProcessingException;
+import com.olehprukhnytskyi.exception.error.EventErrorCode;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.FoodCatalogCache;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodUpdatedEvent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.FoodSnapshotStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FoodEventConsumer {
+    private final FoodCatalogCache foodCatalogCache;
+    private final FoodSnapshotStore foodSnapshotStore;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${app.food-cache.topic:food-updated}",
+            groupId = "intake-service-food-cache-${app.instance-id:${random.uuid}}")
+    public void evictFood(String message) {
+        FoodUpdatedEvent event = parse(message);
+        if (event.getFoodId() == null) {
+            log.warn("Food-updated event without foodId, clearing food catalog cache");
+            foodCatalogCache.invalidateAll();
+            return;
+        }
+        log.debug("Evicting cached food foodId={}", event.getFoodId());
+        foodCatalogCache.invalidate(event.getFoodId());
+    }
+
+    @KafkaListener(topics = "${app.food-cache.topic:food-updated}",
+            groupId = "intake-service-food-snapshots")
+    public void invalidateSnapshot(String message) {
+        FoodUpdatedEvent event = parse(message);
+        if (event.getFoodId() == null) {
+            log.warn("Food-updated event without foodId, invalidating all food snapshots");
+            foodSnapshotStore.markAllStale();
+            return;
+        }
+        log.debug("Invalidating food snapshot foodId={}", event.getFoodId());
+        foodSnapshotStore.markStale(event.getFoodId());
+    }
+
+    private FoodUpdatedEvent parse(String message) {
+        try {
+            return objectMapper.readValue(message, FoodUpdatedEvent.class);
+        } catch (JsonProcessingException e) {
+            log.error("Invalid food-updated event payload. Message: {}", message, e);
+            throw new EventProcessingException(EventErrorCode.EVENT_DESERIALIZATION_FAILED,
+                    "Failed to parse food-updated event", e);
+        }
+    }
+}
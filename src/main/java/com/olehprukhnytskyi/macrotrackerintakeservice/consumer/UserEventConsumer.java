@@ -1,41 +1,69 @@
 package com.olehprukhnytskyi.macrotrackerintakeservice.consumer;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.olehprukhnytskyi.event.UserDeletedEvent;
 import com.olehprukhnytskyi.exception.EventProcessingException;
 import com.olehprukhnytskyi.exception.error.EventErrorCode;
-import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.UserPurgeService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserEventConsumer {
-    private final IntakeService intakeService;
-    private final ObjectMapper objectMapper;
+    public static final String TOPIC = "user-deleted";
+    public static final String RETRY_TOPIC = TOPIC + "-retry";
+    public static final String DLT_TOPIC = RETRY_TOPIC + "-dlt";
 
-    @KafkaListener(topics = "user-deleted", groupId = "intake-service")
-    public void handleUserDeleted(String message) {
-        UserDeletedEvent event;
-        try {
-            event = objectMapper.readValue(message, UserDeletedEvent.class);
-        } catch (JsonProcessingException e) {
-            log.error("Invalid user-deleted event payload. Message: {}", message, e);
-            throw new EventProcessingException(EventErrorCode.EVENT_DESERIALIZATION_FAILED,
-                    "Failed to parse user-deleted event", e);
+    private final UserPurgeService userPurgeService;
+
+    @KafkaListener(topics = TOPIC, groupId = "intake-service",
+            containerFactory = "userDeletedListenerContainerFactory")
+    public void handleUserDeleted(List<ConsumerRecord<String, UserDeletedEvent>> records) {
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, UserDeletedEvent> record = records.get(i);
+            if (!isValid(record.value())) {
+                log.error("Invalid user-deleted event payload at offset={} partition={}",
+                        record.offset(), record.partition());
+                throw new BatchListenerFailedException("Invalid user-deleted event payload", i);
+            }
+            Long userId = record.value().getUserId();
+            if (!userIds.add(userId)) {
+                continue;
+            }
+            try {
+                userPurgeService.launch(userId);
+            } catch (Exception e) {
+                log.error("Error processing user-deleted event for userId={}", userId, e);
+                throw new BatchListenerFailedException("Failed to process user-deleted event",
+                        e, i);
+            }
         }
+        log.info("Processed {} user-deleted events for {} users", records.size(), userIds.size());
+    }
+
+    @KafkaListener(topics = RETRY_TOPIC, groupId = "intake-service",
+            containerFactory = "userDeletedRetryListenerContainerFactory")
+    public void handleUserDeletedRetry(UserDeletedEvent event) {
         try {
-            log.info("Processing user-deleted event for userId={}", event.getUserId());
-            intakeService.deleteUserIntakesRecursively(event.getUserId());
-            log.info("Successfully deleted all intakes for userId={}", event.getUserId());
+            log.info("Retrying user-deleted event for userId={}", event.getUserId());
+            userPurgeService.launch(event.getUserId());
         } catch (Exception e) {
             log.error("Error processing user-deleted event for userId={}", event.getUserId(), e);
             throw new EventProcessingException(EventErrorCode.KAFKA_PROCESSING_ERROR,
                     "Failed to process user-deleted event", e);
         }
     }
+
+    public static boolean isValid(Object value) {
+        return value instanceof UserDeletedEvent event && event.getUserId() != null;
+    }
 }
@@ -1,16 +1,24 @@
 package com.olehprukhnytskyi.macrotrackerintakeservice.controller;
 
 import com.olehprukhnytskyi.annotation.Idempotent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.BatchIntakeRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.CacheablePage;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.DailyNutritionSummaryDto;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeRequestDto;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutritionRollupDto;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.UpdateIntakeRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.DailySummaryService;
 import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.NutritionRollupService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.RollupPeriod;
 import com.olehprukhnytskyi.util.CustomHeaders;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -37,15 +45,17 @@ import org.springframework.web.bind.annotation.RestController;
 )
 public class IntakeController {
     private final IntakeService intakeService;
+    private final DailySummaryService dailySummaryService;
+    private final NutritionRollupService nutritionRollupService;
 
     @Operation(
             summary = "Get intake records",
             description = """
-            Retrieve paginated food intake records for a specific date.
+            Retrieve food intake records for a specific date.
             
             **Date format:**
             - 'yyyy-MM-dd': Specific date (e.g., 2024-01-15)
-            - Empty: All dates
+            - Empty: Most recent records (first page of the history)
             
             Automatically calculates nutrition values based on food amount.
             """
@@ -57,11 +67,95 @@ public class IntakeController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
             LocalDate date) {
         log.debug("Fetching intake records for userId={} date={}", userId, date);
-        List<IntakeResponseDto> intakes = intakeService.findByDate(date, userId);
+        List<IntakeResponseDto> intakes = date != null
+                ? intakeService.findByDate(date, userId)
+                : intakeService.findHistory(userId, null,
+                        IntakeService.DEFAULT_HISTORY_PAGE_SIZE).getContent();
         log.debug("Fetched {} intake records for userId={}", intakes.size(), userId);
         return ResponseEntity.ok(intakes);
     }
 
+    @Operation(
+            summary = "Get intakes for a date range",
+            description = """
+            Retrieve intake records for every day from `from` to `to` (inclusive), grouped by day.
+            
+            Days without records are returned with an empty list. The range is limited to 93 days.
+            """
+    )
+    @GetMapping("/range")
+    public ResponseEntity<Map<LocalDate, List<IntakeResponseDto>>> findByDateRange(
+            @RequestHeader(CustomHeaders.X_USER_ID) Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("Fetching intake records for userId={} from={} to={}", userId, from, to);
+        Map<LocalDate, List<IntakeResponseDto>> intakes =
+                intakeService.findByDateRange(from, to, userId);
+        return ResponseEntity.ok(intakes);
+    }
+
+    @Operation(
+            summary = "Get daily nutrition summary",
+            description = """
+            Retrieve calories, protein, fat and carbohydrates totals for every day from `from`
+            to `to` (inclusive), overall and per consumption period.
+            
+            Days without records are omitted. The range is limited to 366 days.
+            """
+    )
+    @GetMapping("/summary")
+    public ResponseEntity<List<DailyNutritionSummaryDto>> findSummary(
+            @RequestHeader(CustomHeaders.X_USER_ID) Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("Fetching daily summary for userId={} from={} to={}", userId, from, to);
+        List<DailyNutritionSummaryDto> summary = dailySummaryService.findSummary(userId, from, to);
+        return ResponseEntity.ok(summary);
+    }
+
+    @Operation(
+            summary = "Get weekly or monthly nutrition rollups",
+            description = """
+            Retrieve sums and per-day averages of calories, protein, fat and carbohydrates for
+            every ISO week or calendar month overlapping `from`..`to`.
+            
+            Periods are always whole, so the first and last period may include days outside
+            the requested range. Periods without records are omitted. The range is limited to
+            1098 days.
+            """
+    )
+    @GetMapping("/rollups")
+    public ResponseEntity<List<NutritionRollupDto>> findRollups(
+            @RequestHeader(CustomHeaders.X_USER_ID) Long userId,
+            @RequestParam(defaultValue = "WEEK") RollupPeriod period,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("Fetching {} rollups for userId={} from={} to={}", period, userId, from, to);
+        List<NutritionRollupDto> rollups =
+                nutritionRollupService.findRollups(userId, period, from, to);
+        return ResponseEntity.ok(rollups);
+    }
+
+    @Operation(
+            summary = "Get intake history",
+            description = """
+            Retrieve intake records newest first, one page at a time.
+            
+            Pass the `nextCursor` of the previous response as `cursor` to fetch the next page.
+            The last page has no `nextCursor`.
+            """
+    )
+    @GetMapping("/history")
+    public ResponseEntity<CacheablePage<IntakeResponseDto>> findHistory(
+            @RequestHeader(CustomHeaders.X_USER_ID) Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Fetching intake history for userId={} cursor={}", userId, cursor);
+        CacheablePage<IntakeResponseDto> page = intakeService.findHistory(userId, cursor, size);
+        log.debug("Fetched {} history records for userId={}", page.getContent().size(), userId);
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(
             summary = "Add food intake",
             description = "Record food consumption with automatic nutrition calculation"
@@ -79,6 +173,28 @@ public class IntakeController {
                 .body(saved);
     }
 
+    @Operation(
+            summary = "Add several food intakes",
+            description = """
+            Record up to 100 food intakes in one request, e.g. from a scanned receipt.
+            
+            All foods are resolved with a single Food Service call and all records are saved
+            together or not at all.
+            """
+    )
+    @Idempotent
+    @PostMapping("/batch")
+    public ResponseEntity<List<IntakeResponseDto>> addIntakes(
+            @RequestHeader(CustomHeaders.X_USER_ID) Long userId,
+            @Valid @RequestBody BatchIntakeRequestDto batchRequest) {
+        log.info("Creating {} intake records for userId={}", batchRequest.getItems().size(),
+                userId);
+        List<IntakeResponseDto> saved = intakeService.saveAll(batchRequest.getItems(), userId);
+        log.debug("Created {} intake records for userId={}", saved.size(), userId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(saved);
+    }
+
     @Operation(
             summary = "Update intake amount",
             description = "Update the amount of consumed food with recalculated nutrition values"
@@ -0,0 +1,29 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.controller;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeRecomputeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "intakerecompute")
+@ConditionalOnProperty(value = "app.recompute.endpoint.enabled", havingValue = "true")
+public class IntakeRecomputeEndpoint {
+    private final IntakeRecomputeService intakeRecomputeService;
+
+    @WriteOperation
+    public Long launch(@Nullable Boolean dryRun, @Nullable Boolean refreshFoods) {
+        return intakeRecomputeService.launch(!Boolean.FALSE.equals(dryRun),
+                Boolean.TRUE.equals(refreshFoods));
+    }
+
+    @WriteOperation
+    public Long restart(@Selector Long executionId) {
+        return intakeRecomputeService.restart(executionId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to record several food intakes at once")
+public class BatchIntakeRequestDto {
+    @Valid
+    @NotEmpty
+    @Size(max = 100, message = "Batch must contain at most 100 items")
+    @Schema(description = "Intakes to record, saved together or not at all")
+    private List<IntakeRequestDto> items;
+}
@@ -20,10 +20,10 @@ public class CacheablePage<T> implements Serializable {
     @Schema(description = "Page content")
     private List<T> content;
 
-    @Schema(description = "Total number of elements")
+    @Schema(description = "Total number of elements, -1 for cursor pages")
     private long totalElements;
 
-    @Schema(description = "Total number of pages")
+    @Schema(description = "Total number of pages, -1 for cursor pages")
     private int totalPages;
 
     @Schema(description = "Current page number")
@@ -32,13 +32,21 @@ public class CacheablePage<T> implements Serializable {
     @Schema(description = "Page size")
     private int size;
 
+    @Schema(description = "Cursor of the next page, absent on the last page")
+    private String nextCursor;
+
     public static <T> CacheablePage<T> fromPage(Page<T> page) {
         return new CacheablePage<>(
                 page.getContent(),
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.getNumber(),
-                page.getSize()
+                page.getSize(),
+                null
         );
     }
+
+    public static <T> CacheablePage<T> ofCursor(List<T> content, int size, String nextCursor) {
+        return new CacheablePage<>(content, -1, -1, 0, size, nextCursor);
+    }
 }
@@ -0,0 +1,28 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.dto;
+
+import com.olehprukhnytskyi.util.IntakePeriod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Nutrition totals of one day, overall and per consumption period")
+public class DailyNutritionSummaryDto {
+    @Schema(description = "Consumption date", example = "2024-01-15")
+    private LocalDate date;
+
+    @Schema(description = "Totals of the whole day")
+    private NutritionTotalsDto totals;
+
+    @Builder.Default
+    @Schema(description = "Totals per consumption period")
+    private Map<IntakePeriod, NutritionTotalsDto> periods = new EnumMap<>(IntakePeriod.class);
+}
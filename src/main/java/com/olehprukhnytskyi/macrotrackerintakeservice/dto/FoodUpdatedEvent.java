@@ -0,0 +1,12 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodUpdatedEvent {
+    private String foodId;
+}
@@ -0,0 +1,17 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntakeChangedEvent {
+    private String eventType;
+    private Long userId;
+    private String foodId;
+    private IntakeResponseDto intake;
+}
@@ -42,4 +42,7 @@ public class IntakeResponseDto {
     @Schema(description = "Calculated nutrition values for consumed amount")
     @Builder.Default
     private NutrimentsDto nutriments = new NutrimentsDto();
+
+    @Schema(description = "Row version, incremented on every change", example = "3")
+    private Long version;
 }
@@ -0,0 +1,83 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.BigDecimalJsonSerializer;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.RollupPeriod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Nutrition sums and daily averages of one week or month")
+public class NutritionRollupDto {
+    @Schema(description = "Rollup granularity", example = "WEEK")
+    private RollupPeriod period;
+
+    @Schema(description = "First day of the period", example = "2024-01-15")
+    private LocalDate periodStart;
+
+    @Schema(description = "Last day of the period", example = "2024-01-21")
+    private LocalDate periodEnd;
+
+    @Schema(description = "Number of days with at least one intake", example = "7")
+    private long loggedDays;
+
+    @Schema(description = "Number of intake records", example = "31")
+    private long intakeCount;
+
+    @Schema(description = "Sum of calories", example = "12950.5", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal caloriesSum = BigDecimal.ZERO;
+
+    @Schema(description = "Sum of fat in grams", example = "436.8", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal fatSum = BigDecimal.ZERO;
+
+    @Schema(description = "Sum of protein in grams", example = "840.0", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal proteinSum = BigDecimal.ZERO;
+
+    @Schema(description = "Sum of carbohydrates in grams", example = "1472.1", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal carbohydratesSum = BigDecimal.ZERO;
+
+    @Schema(description = "Average calories per logged day", example = "1850.07", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal caloriesAvg = BigDecimal.ZERO;
+
+    @Schema(description = "Average fat per logged day", example = "62.4", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal fatAvg = BigDecimal.ZERO;
+
+    @Schema(description = "Average protein per logged day", example = "120.0", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal proteinAvg = BigDecimal.ZERO;
+
+    @Schema(description = "Average carbohydrates per day", example = "210.3", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal carbohydratesAvg = BigDecimal.ZERO;
+}
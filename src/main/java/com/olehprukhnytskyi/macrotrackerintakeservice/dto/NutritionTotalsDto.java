@@ -0,0 +1,45 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.BigDecimalJsonSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summed nutrition values of a group of intakes")
+public class NutritionTotalsDto {
+    @Schema(description = "Calories", example = "1850.5", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal calories = BigDecimal.ZERO;
+
+    @Schema(description = "Fat in grams", example = "62.4", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal fat = BigDecimal.ZERO;
+
+    @Schema(description = "Protein in grams", example = "120.0", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal protein = BigDecimal.ZERO;
+
+    @Schema(description = "Carbohydrates in grams", example = "210.3", minimum = "0.0")
+    @Builder.Default
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonSerialize(using = BigDecimalJsonSerializer.class)
+    private BigDecimal carbohydrates = BigDecimal.ZERO;
+
+    @Schema(description = "Number of intake records", example = "7")
+    private int intakeCount;
+}
@@ -0,0 +1,62 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.mapper;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.MapperConfig;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.FoodSnapshot;
+import com.olehprukhnytskyi.util.UnitType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Mappings;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(config = MapperConfig.class, unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface FoodSnapshotMapper {
+    @Mappings({
+            @Mapping(source = "id", target = "foodId"),
+            @Mapping(source = "nutriments.calories", target = "calories"),
+            @Mapping(source = "nutriments.carbohydrates", target = "carbohydrates"),
+            @Mapping(source = "nutriments.fat", target = "fat"),
+            @Mapping(source = "nutriments.protein", target = "protein"),
+            @Mapping(source = "nutriments.caloriesPerPiece", target = "caloriesPerPiece"),
+            @Mapping(source = "nutriments.carbohydratesPerPiece",
+                    target = "carbohydratesPerPiece"),
+            @Mapping(source = "nutriments.fatPerPiece", target = "fatPerPiece"),
+            @Mapping(source = "nutriments.proteinPerPiece", target = "proteinPerPiece"),
+            @Mapping(target = "refreshedAt", ignore = true)
+    })
+    FoodSnapshot toModel(FoodDto food);
+
+    @Mappings({
+            @Mapping(source = "foodId", target = "id"),
+            @Mapping(source = "calories", target = "nutriments.calories"),
+            @Mapping(source = "carbohydrates", target = "nutriments.carbohydrates"),
+            @Mapping(source = "fat", target = "nutriments.fat"),
+            @Mapping(source = "protein", target = "nutriments.protein"),
+            @Mapping(source = "caloriesPerPiece", target = "nutriments.caloriesPerPiece"),
+            @Mapping(source = "carbohydratesPerPiece",
+                    target = "nutriments.carbohydratesPerPiece"),
+            @Mapping(source = "fatPerPiece", target = "nutriments.fatPerPiece"),
+            @Mapping(source = "proteinPerPiece", target = "nutriments.proteinPerPiece")
+    })
+    FoodDto toDto(FoodSnapshot snapshot);
+
+    default String unitsToString(List<UnitType> units) {
+        if (units == null) {
+            return null;
+        }
+        return units.stream().map(UnitType::name).collect(Collectors.joining(","));
+    }
+
+    default List<UnitType> unitsFromString(String units) {
+        if (units == null) {
+            return null;
+        }
+        if (units.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(units.split(",")).map(UnitType::valueOf).toList();
+    }
+}
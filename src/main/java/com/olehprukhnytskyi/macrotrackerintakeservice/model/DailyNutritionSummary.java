@@ -0,0 +1,41 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyNutritionSummary {
+    @EmbeddedId
+    private DailyNutritionSummaryId id;
+
+    @Builder.Default
+    @Column(name = "calories_total", nullable = false)
+    private BigDecimal calories = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "carbohydrates_total", nullable = false)
+    private BigDecimal carbohydrates = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "fat_total", nullable = false)
+    private BigDecimal fat = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "protein_total", nullable = false)
+    private BigDecimal protein = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private int intakeCount;
+}
@@ -0,0 +1,62 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodSnapshot {
+    @Id
+    private String foodId;
+
+    private String productName;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal calories = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal carbohydrates = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal fat = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal protein = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal caloriesPerPiece = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal carbohydratesPerPiece = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal fatPerPiece = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private BigDecimal proteinPerPiece = BigDecimal.ZERO;
+
+    private String availableUnits;
+
+    @Column(nullable = false)
+    private Instant refreshedAt;
+}
@@ -10,6 +10,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,7 +27,9 @@ import lombok.Setter;
 @AllArgsConstructor
 public class Intake {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intake_id_seq")
+    @SequenceGenerator(name = "intake_id_seq", sequenceName = "intake_id_seq",
+            allocationSize = 50)
     private Long id;
 
     private String mealGroupId;
@@ -57,4 +61,7 @@ public class Intake {
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private IntakePeriod intakePeriod = IntakePeriod.SNACK;
+
+    @Version
+    private Long version;
 }
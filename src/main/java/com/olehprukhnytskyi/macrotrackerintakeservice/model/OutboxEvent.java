@@ -0,0 +1,43 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_id_seq")
+    @SequenceGenerator(name = "outbox_event_id_seq", sequenceName = "outbox_event_id_seq",
+            allocationSize = 1)
+    private Long id;
+
+    private String aggregateId;
+
+    private String aggregateType;
+
+    private String eventType;
+
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private boolean processed;
+
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,54 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.producer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class KafkaEventPublisher {
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public KafkaEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+                               MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("kafka.producer.in.flight", inFlight);
+    }
+
+    public CompletableFuture<SendResult<String, Object>> publish(String topic, String key,
+                                                                 Object payload) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlight.incrementAndGet();
+        CompletableFuture<SendResult<String, Object>> future;
+        try {
+            future = kafkaTemplate.send(topic, key, payload);
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            sample.stop(sendTimer(topic, "failure"));
+            throw e;
+        }
+        return future.whenComplete((result, e) -> {
+            inFlight.decrementAndGet();
+            sample.stop(sendTimer(topic, e == null ? "success" : "failure"));
+            if (e != null) {
+                log.error("Failed to publish event to topic={} key={}", topic, key, e);
+            }
+        });
+    }
+
+    private Timer sendTimer(String topic, String outcome) {
+        return Timer.builder("kafka.producer.send")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
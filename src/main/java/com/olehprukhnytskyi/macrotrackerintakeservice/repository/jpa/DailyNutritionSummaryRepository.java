@@ -0,0 +1,138 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.DailyNutritionSummary;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.DailyNutritionSummaryId;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyNutritionSummaryRepository
+        extends JpaRepository<DailyNutritionSummary, DailyNutritionSummaryId> {
+    List<DailyNutritionSummary> findByIdUserIdAndIdDateBetweenOrderByIdDateAsc(
+            Long userId, LocalDate from, LocalDate to);
+
+    @Query(value = """
+            SELECT CAST(date_trunc('week', d.date) AS DATE) AS "periodStart",
+                   COUNT(*) AS "loggedDays",
+                   SUM(d.intake_count) AS "intakeCount",
+                   SUM(d.calories) AS "caloriesSum",
+                   SUM(d.carbohydrates) AS "carbohydratesSum",
+                   SUM(d.fat) AS "fatSum",
+                   SUM(d.protein) AS "proteinSum",
+                   AVG(d.calories) AS "caloriesAvg",
+                   AVG(d.carbohydrates) AS "carbohydratesAvg",
+                   AVG(d.fat) AS "fatAvg",
+                   AVG(d.protein) AS "proteinAvg"
+            FROM (
+                SELECT date,
+                       SUM(intake_count) AS intake_count,
+                       SUM(calories_total) AS calories,
+                       SUM(carbohydrates_total) AS carbohydrates,
+                       SUM(fat_total) AS fat,
+                       SUM(protein_total) AS protein
+                FROM daily_nutrition_summary
+                WHERE user_id = :userId AND date BETWEEN :from AND :to
+                GROUP BY date
+            ) d
+            GROUP BY CAST(date_trunc('week', d.date) AS DATE)
+            ORDER BY "periodStart"
+            """, nativeQuery = true)
+    List<NutritionRollupView> sumByWeek(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query(value = """
+            SELECT CAST(date_trunc('month', d.date) AS DATE) AS "periodStart",
+                   COUNT(*) AS "loggedDays",
+                   SUM(d.intake_count) AS "intakeCount",
+                   SUM(d.calories) AS "caloriesSum",
+                   SUM(d.carbohydrates) AS "carbohydratesSum",
+                   SUM(d.fat) AS "fatSum",
+                   SUM(d.protein) AS "proteinSum",
+                   AVG(d.calories) AS "caloriesAvg",
+                   AVG(d.carbohydrates) AS "carbohydratesAvg",
+                   AVG(d.fat) AS "fatAvg",
+                   AVG(d.protein) AS "proteinAvg"
+            FROM (
+                SELECT date,
+                       SUM(intake_count) AS intake_count,
+                       SUM(calories_total) AS calories,
+                       SUM(carbohydrates_total) AS carbohydrates,
+                       SUM(fat_total) AS fat,
+                       SUM(protein_total) AS protein
+                FROM daily_nutrition_summary
+                WHERE user_id = :userId AND date BETWEEN :from AND :to
+                GROUP BY date
+            ) d
+            GROUP BY CAST(date_trunc('month', d.date) AS DATE)
+            ORDER BY "periodStart"
+            """, nativeQuery = true)
+    List<NutritionRollupView> sumByMonth(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE daily_nutrition_summary
+            SET calories_total = calories_total + :calories,
+                carbohydrates_total = carbohydrates_total + :carbohydrates,
+                fat_total = fat_total + :fat,
+                protein_total = protein_total + :protein,
+                intake_count = intake_count + :count
+            WHERE user_id = :userId AND date = :date AND intake_period = :period
+            """, nativeQuery = true)
+    int addDelta(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("period") String period,
+            @Param("calories") BigDecimal calories,
+            @Param("carbohydrates") BigDecimal carbohydrates,
+            @Param("fat") BigDecimal fat,
+            @Param("protein") BigDecimal protein,
+            @Param("count") int count
+    );
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_nutrition_summary (user_id, date, intake_period, calories_total,
+                carbohydrates_total, fat_total, protein_total, intake_count)
+            VALUES (:userId, :date, :period, :calories, :carbohydrates, :fat, :protein, :count)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("period") String period,
+            @Param("calories") BigDecimal calories,
+            @Param("carbohydrates") BigDecimal carbohydrates,
+            @Param("fat") BigDecimal fat,
+            @Param("protein") BigDecimal protein,
+            @Param("count") int count
+    );
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM daily_nutrition_summary
+            WHERE user_id = :userId AND date = :date AND intake_period = :period
+              AND intake_count <= 0
+            """, nativeQuery = true)
+    int deleteIfEmpty(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("period") String period
+    );
+
+    @Modifying
+    @Query("delete from DailyNutritionSummary s where s.id.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,18 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.FoodSnapshot;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FoodSnapshotRepository extends JpaRepository<FoodSnapshot, String> {
+    @Modifying
+    @Query("UPDATE FoodSnapshot f SET f.refreshedAt = :refreshedAt WHERE f.foodId = :foodId")
+    int markRefreshedAt(@Param("foodId") String foodId, @Param("refreshedAt") Instant refreshedAt);
+
+    @Modifying
+    @Query("UPDATE FoodSnapshot f SET f.refreshedAt = :refreshedAt")
+    int markAllRefreshedAt(@Param("refreshedAt") Instant refreshedAt);
+}
@@ -4,36 +4,88 @@ import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface IntakeRepository extends JpaRepository<Intake, Long> {
     List<Intake> findByUserIdAndDate(Long userId, LocalDate date);
 
+    @Query("""
+            select new com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeView(
+                i.id, i.mealGroupId, i.foodName, i.amount, i.unitType, i.date, i.intakePeriod,
+                i.nutriments.calories, i.nutriments.fat, i.nutriments.protein,
+                i.nutriments.carbohydrates, i.nutriments.caloriesPerPiece,
+                i.nutriments.fatPerPiece, i.nutriments.proteinPerPiece,
+                i.nutriments.carbohydratesPerPiece, i.version)
+            from Intake i
+            where i.userId = :userId and i.date = :date
+            order by i.id
+            """)
+    List<IntakeView> findViewsByUserIdAndDate(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date
+    );
+
     List<Intake> findByUserId(Long userId);
 
+    @Query("select distinct i.date from Intake i where i.userId = :userId")
+    List<LocalDate> findDistinctDatesByUserId(@Param("userId") Long userId);
+
+    List<Intake> findByUserIdAndDateBetweenOrderByDateAscIdAsc(
+            Long userId, LocalDate from, LocalDate to);
+
+    @Query("""
+            select i from Intake i
+            where i.userId = :userId
+            order by i.date desc, i.id desc
+            """)
+    List<Intake> findHistoryFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+            select i from Intake i
+            where i.userId = :userId
+              and (i.date < :date or (i.date = :date and i.id < :id))
+            order by i.date desc, i.id desc
+            """)
+    List<Intake> findHistoryPageAfter(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     Optional<Intake> findByIdAndUserId(Long id, Long userId);
 
     void deleteByIdAndUserId(Long id, Long userId);
 
-    @Transactional
-    @Modifying
     @Query(value = """
-        DELETE FROM intake\s
-        WHERE id IN (
-            SELECT id FROM intake\s
-            WHERE user_id = :userId\s
-            LIMIT :batchSize
-        )
+            SELECT MAX(chunk.id) FROM (
+                SELECT id FROM intake
+                WHERE user_id = :userId AND id > :afterId
+                ORDER BY id
+                LIMIT :limit
+            ) chunk
             """, nativeQuery = true)
-    int deleteBatchByUserId(
+    Long findPurgeChunkUpperId(
+            @Param("userId") Long userId,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query("""
+            delete from Intake i
+            where i.userId = :userId and i.id > :afterId and i.id <= :upToId
+            """)
+    int deleteByUserIdAndIdRange(
             @Param("userId") Long userId,
-            @Param("batchSize") int batchSize
+            @Param("afterId") long afterId,
+            @Param("upToId") long upToId
     );
 
     @Modifying
@@ -43,5 +95,5 @@ public interface IntakeRepository extends JpaRepository<Intake, Long> {
             @Param("userId") Long userId
     );
 
-    Optional<Intake> findFirstByMealGroupIdAndUserId(String mealGroupId, Long userId);
+    List<Intake> findByMealGroupIdAndUserId(String mealGroupId, Long userId);
 }
@@ -0,0 +1,34 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record IntakeView(
+        Long id,
+        String mealGroupId,
+        String foodName,
+        int amount,
+        UnitType unitType,
+        LocalDate date,
+        IntakePeriod intakePeriod,
+        BigDecimal calories,
+        BigDecimal fat,
+        BigDecimal protein,
+        BigDecimal carbohydrates,
+        BigDecimal caloriesPerPiece,
+        BigDecimal fatPerPiece,
+        BigDecimal proteinPerPiece,
+        BigDecimal carbohydratesPerPiece,
+        Long version
+) {
+    public IntakeResponseDto toDto() {
+        return new IntakeResponseDto(id, mealGroupId, foodName, amount, unitType, date,
+                intakePeriod, new NutrimentsDto(calories, fat, protein, carbohydrates,
+                        caloriesPerPiece, fatPerPiece, proteinPerPiece, carbohydratesPerPiece),
+                version);
+    }
+}
@@ -4,6 +4,9 @@ import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +14,43 @@ public interface MealTemplateRepository extends JpaRepository<MealTemplate, Long
     Optional<MealTemplate> findByIdAndUserId(Long id, Long userId);
 
     List<MealTemplate> findAllByUserId(Long userId);
+
+    @Query(value = """
+            SELECT MAX(chunk.id) FROM (
+                SELECT id FROM meal_template
+                WHERE user_id = :userId AND id > :afterId
+                ORDER BY id
+                LIMIT :limit
+            ) chunk
+            """, nativeQuery = true)
+    Long findPurgeChunkUpperId(
+            @Param("userId") Long userId,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query("""
+            delete from MealTemplateItem item
+            where item.template.id in (
+                select t.id from MealTemplate t
+                where t.userId = :userId and t.id > :afterId and t.id <= :upToId
+            )
+            """)
+    int deleteItemsByUserIdAndTemplateIdRange(
+            @Param("userId") Long userId,
+            @Param("afterId") long afterId,
+            @Param("upToId") long upToId
+    );
+
+    @Modifying
+    @Query("""
+            delete from MealTemplate t
+            where t.userId = :userId and t.id > :afterId and t.id <= :upToId
+            """)
+    int deleteByUserIdAndIdRange(
+            @Param("userId") Long userId,
+            @Param("afterId") long afterId,
+            @Param("upToId") long upToId
+    );
 }
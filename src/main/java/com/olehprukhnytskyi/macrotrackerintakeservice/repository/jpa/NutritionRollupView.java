@@ -0,0 +1,28 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface NutritionRollupView {
+    LocalDate getPeriodStart();
+
+    Long getLoggedDays();
+
+    Long getIntakeCount();
+
+    BigDecimal getCaloriesSum();
+
+    BigDecimal getCarbohydratesSum();
+
+    BigDecimal getFatSum();
+
+    BigDecimal getProteinSum();
+
+    BigDecimal getCaloriesAvg();
+
+    BigDecimal getCarbohydratesAvg();
+
+    BigDecimal getFatAvg();
+
+    BigDecimal getProteinAvg();
+}
@@ -0,0 +1,50 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.OutboxEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Query(value = """
+            SELECT * FROM outbox_event
+            WHERE processed = false
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OutboxEvent> findUnprocessed(@Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.processed = true, e.processedAt = :processedAt
+            WHERE e.id IN :ids
+            """)
+    int markProcessed(@Param("ids") List<Long> ids,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query(value = """
+            UPDATE outbox_relay_lease
+            SET owner = :owner, locked_until = :lockedUntil
+            WHERE name = 'outbox-relay' AND (owner = :owner OR locked_until < :now)
+            """, nativeQuery = true)
+    int acquireRelayLease(@Param("owner") String owner,
+                          @Param("now") LocalDateTime now,
+                          @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query(value = """
+            UPDATE outbox_relay_lease
+            SET locked_until = :now
+            WHERE name = 'outbox-relay' AND owner = :owner
+            """, nativeQuery = true)
+    int releaseRelayLease(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processed = true AND e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
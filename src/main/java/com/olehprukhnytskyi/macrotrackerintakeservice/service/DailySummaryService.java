@@ -0,0 +1,177 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.olehprukhnytskyi.exception.BadRequestException;
+import com.olehprukhnytskyi.exception.error.CommonErrorCode;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.DailyNutritionSummaryDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutritionTotalsDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.DailyNutritionSummary;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.DailyNutritionSummaryId;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.DailyNutritionSummaryRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailySummaryService {
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final Comparator<DailyNutritionSummaryId> LOCK_ORDER = Comparator
+            .comparing(DailyNutritionSummaryId::getUserId)
+            .thenComparing(DailyNutritionSummaryId::getDate)
+            .thenComparing(id -> id.getIntakePeriod().name());
+    private final DailyNutritionSummaryRepository summaryRepository;
+
+    @Transactional
+    public void added(Collection<Intake> intakes) {
+        apply(intakes.stream().map(Delta::added).toList());
+    }
+
+    @Transactional
+    public void removed(Collection<Intake> intakes) {
+        apply(intakes.stream().map(Delta::removed).toList());
+    }
+
+    @Transactional
+    public void apply(Collection<Delta> deltas) {
+        Map<DailyNutritionSummaryId, Delta> merged = new TreeMap<>(LOCK_ORDER);
+        deltas.forEach(delta -> merged.merge(delta.id(), delta, Delta::plus));
+        merged.values().stream()
+                .filter(delta -> !delta.isEmpty())
+                .forEach(this::upsert);
+    }
+
+    @Transactional
+    public void deleteByUserId(Long userId) {
+        int deleted = summaryRepository.deleteByUserId(userId);
+        log.debug("Deleted {} daily summary rows for userId={}", deleted, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyNutritionSummaryDto> findSummary(Long userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        log.debug("Fetching daily summary for userId={} from={} to={}", userId, from, to);
+        List<DailyNutritionSummary> rows = summaryRepository
+                .findByIdUserIdAndIdDateBetweenOrderByIdDateAsc(userId, from, to);
+        Map<LocalDate, DailyNutritionSummaryDto> days = new LinkedHashMap<>();
+        for (DailyNutritionSummary row : rows) {
+            DailyNutritionSummaryDto day = days.computeIfAbsent(row.getId().getDate(),
+                    date -> DailyNutritionSummaryDto.builder()
+                            .date(date)
+                            .totals(new NutritionTotalsDto())
+                            .build());
+            day.getPeriods().put(row.getId().getIntakePeriod(), toTotals(row));
+            addTo(day.getTotals(), row);
+        }
+        return new ArrayList<>(days.values());
+    }
+
+    private void upsert(Delta delta) {
+        DailyNutritionSummaryId id = delta.id();
+        String period = id.getIntakePeriod().name();
+        int updated = update(delta, period);
+        if (updated == 0) {
+            updated = summaryRepository.insertIfAbsent(id.getUserId(), id.getDate(), period,
+                    delta.calories(), delta.carbohydrates(), delta.fat(), delta.protein(),
+                    delta.count());
+            if (updated == 0) {
+                update(delta, period);
+            }
+        }
+        if (delta.count() < 0) {
+            summaryRepository.deleteIfEmpty(id.getUserId(), id.getDate(), period);
+        }
+    }
+
+    private int update(Delta delta, String period) {
+        DailyNutritionSummaryId id = delta.id();
+        return summaryRepository.addDelta(id.getUserId(), id.getDate(), period,
+                delta.calories(), delta.carbohydrates(), delta.fat(), delta.protein(),
+                delta.count());
+    }
+
+    private NutritionTotalsDto toTotals(DailyNutritionSummary row) {
+        NutritionTotalsDto totals = new NutritionTotalsDto();
+        addTo(totals, row);
+        return totals;
+    }
+
+    private void addTo(NutritionTotalsDto totals, DailyNutritionSummary row) {
+        totals.setCalories(totals.getCalories().add(row.getCalories()));
+        totals.setCarbohydrates(totals.getCarbohydrates().add(row.getCarbohydrates()));
+        totals.setFat(totals.getFat().add(row.getFat()));
+        totals.setProtein(totals.getProtein().add(row.getProtein()));
+        totals.setIntakeCount(totals.getIntakeCount() + row.getIntakeCount());
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    "Range must have 'from' on or before 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    String.format("Range must not exceed %d days", MAX_RANGE_DAYS));
+        }
+    }
+
+    public record Delta(DailyNutritionSummaryId id, BigDecimal calories,
+                        BigDecimal carbohydrates, BigDecimal fat, BigDecimal protein,
+                        int count) {
+        public static Delta added(Intake intake) {
+            return of(intake, false);
+        }
+
+        public static Delta removed(Intake intake) {
+            return of(intake, true);
+        }
+
+        private static Delta of(Intake intake, boolean negate) {
+            Nutriments nutriments = intake.getNutriments() != null
+                    ? intake.getNutriments() : new Nutriments();
+            DailyNutritionSummaryId id = new DailyNutritionSummaryId(
+                    intake.getUserId(), intake.getDate(), intake.getIntakePeriod());
+            return new Delta(id,
+                    signed(nutriments.getCalories(), negate),
+                    signed(nutriments.getCarbohydrates(), negate),
+                    signed(nutriments.getFat(), negate),
+                    signed(nutriments.getProtein(), negate),
+                    negate ? -1 : 1);
+        }
+
+        private static BigDecimal signed(BigDecimal value, boolean negate) {
+            BigDecimal amount = value != null ? value : BigDecimal.ZERO;
+            return negate ? amount.negate() : amount;
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(id,
+                    calories.add(other.calories),
+                    carbohydrates.add(other.carbohydrates),
+                    fat.add(other.fat),
+                    protein.add(other.protein),
+                    count + other.count);
+        }
+
+        boolean isEmpty() {
+            return count == 0
+                    && calories.signum() == 0
+                    && carbohydrates.signum() == 0
+                    && fat.signum() == 0
+                    && protein.signum() == 0;
+        }
+    }
+}
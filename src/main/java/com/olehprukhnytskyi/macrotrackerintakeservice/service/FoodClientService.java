@@ -1,13 +1,23 @@
 package com.olehprukhnytskyi.macrotrackerintakeservice.service;
 
+import com.olehprukhnytskyi.exception.NotFoundException;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.FoodCatalogCache;
 import com.olehprukhnytskyi.macrotrackerintakeservice.client.FoodClient;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
 import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -15,21 +25,135 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class FoodClientService {
     private final FoodClient foodClient;
+    private final FoodCatalogCache foodCatalogCache;
+    private final FoodLookupCollapser foodLookupCollapser;
+    private final FoodServiceGuard foodServiceGuard;
+    private final FoodSnapshotStore foodSnapshotStore;
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
 
-    @Retryable(
-            retryFor = FeignException.class,
-            backoff = @Backoff(delay = 1000)
-    )
     public FoodDto getFoodById(String foodId) {
         log.debug("Fetching food details for foodId={}", foodId);
-        return foodClient.getFoodById(foodId);
+        return foodCatalogCache.get(foodId, this::loadFood);
     }
 
-    @Retryable(
-            retryFor = FeignException.class,
-            backoff = @Backoff(delay = 1000)
-    )
     public List<FoodDto> getFoodsByIds(List<String> foodIds) {
-        return foodClient.getFoodsByIds(foodIds);
+        return foodCatalogCache.getAll(foodIds, this::loadFoods);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    private FoodDto loadFood(String foodId) {
+        Optional<FoodSnapshotStore.Snapshot> snapshot = foodSnapshotStore.find(foodId);
+        if (snapshot.isPresent() && (snapshot.get().invalidated()
+                || foodCatalogCache.requiresReload(foodId))) {
+            return reloadFood(foodId, snapshot.get().food());
+        }
+        if (snapshot.isPresent()) {
+            if (snapshot.get().stale()) {
+                refreshInBackground(foodId);
+            }
+            return snapshot.get().food();
+        }
+        FoodDto food = fetchFood(foodId);
+        storeSnapshots(List.of(food));
+        return food;
+    }
+
+    private List<FoodDto> loadFoods(List<String> foodIds) {
+        Map<String, FoodSnapshotStore.Snapshot> snapshots = foodSnapshotStore.findAll(foodIds);
+        List<FoodDto> foods = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        Map<String, FoodDto> invalidated = new HashMap<>();
+        for (String foodId : foodIds) {
+            FoodSnapshotStore.Snapshot snapshot = snapshots.get(foodId);
+            if (snapshot == null) {
+                missing.add(foodId);
+                continue;
+            }
+            if (snapshot.invalidated() || foodCatalogCache.requiresReload(foodId)) {
+                invalidated.put(foodId, snapshot.food());
+                missing.add(foodId);
+                continue;
+            }
+            if (snapshot.stale()) {
+                refreshInBackground(foodId);
+            }
+            foods.add(snapshot.food());
+        }
+        if (missing.isEmpty()) {
+            return foods;
+        }
+        List<FoodDto> fetched;
+        try {
+            fetched = foodServiceGuard.call(() -> foodClient.getFoodsByIds(missing));
+        } catch (RuntimeException e) {
+            if (invalidated.isEmpty()) {
+                throw e;
+            }
+            log.warn("Failed to reload {} invalidated foods, serving their last snapshots",
+                    invalidated.size(), e);
+            fetched = null;
+        }
+        if (fetched == null) {
+            invalidated.keySet().forEach(this::refreshInBackground);
+            foods.addAll(invalidated.values());
+            return foods;
+        }
+        storeSnapshots(fetched);
+        foods.addAll(fetched);
+        return foods;
+    }
+
+    private FoodDto reloadFood(String foodId, FoodDto lastKnown) {
+        try {
+            FoodDto food = fetchFood(foodId);
+            storeSnapshots(List.of(food));
+            return food;
+        } catch (NotFoundException | FeignException.NotFound e) {
+            log.info("Food removed upstream, dropping snapshot foodId={}", foodId);
+            foodSnapshotStore.delete(foodId);
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload invalidated foodId={}, serving its last snapshot",
+                    foodId, e);
+            refreshInBackground(foodId);
+            return lastKnown;
+        }
+    }
+
+    private FoodDto fetchFood(String foodId) {
+        return foodServiceGuard.call(() -> foodLookupCollapser.getFoodById(foodId));
+    }
+
+    private void refreshInBackground(String foodId) {
+        if (!refreshing.add(foodId)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                storeSnapshots(List.of(fetchFood(foodId)));
+                foodCatalogCache.evict(foodId);
+            } catch (NotFoundException | FeignException.NotFound e) {
+                log.info("Food removed upstream, dropping snapshot foodId={}", foodId);
+                foodSnapshotStore.delete(foodId);
+                foodCatalogCache.evict(foodId);
+            } catch (RuntimeException e) {
+                log.debug("Background refresh failed for foodId={}", foodId, e);
+            } finally {
+                refreshing.remove(foodId);
+            }
+        });
+    }
+
+    private void storeSnapshots(Collection<FoodDto> foods) {
+        try {
+            foodSnapshotStore.save(foods);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store {} food snapshots", foods.size(), e);
+        }
     }
 }
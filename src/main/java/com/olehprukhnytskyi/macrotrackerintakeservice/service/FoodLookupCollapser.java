@@ -0,0 +1,154 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.olehprukhnytskyi.exception.NotFoundException;
+import com.olehprukhnytskyi.exception.error.FoodErrorCode;
+import com.olehprukhnytskyi.macrotrackerintakeservice.client.FoodClient;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class FoodLookupCollapser {
+    private final FoodClient foodClient;
+    private final FoodRequestHedger foodRequestHedger;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService executor;
+    private final Counter lookups;
+    private final Counter upstreamCalls;
+    private final DistributionSummary batchSizes;
+    private Map<String, CompletableFuture<FoodDto>> pending = new LinkedHashMap<>();
+
+    public FoodLookupCollapser(
+            FoodClient foodClient,
+            FoodRequestHedger foodRequestHedger,
+            MeterRegistry meterRegistry,
+            @Value("${app.food-lookup.collapser.enabled:true}") boolean enabled,
+            @Value("${app.food-lookup.collapser.window:5ms}") Duration window,
+            @Value("${app.food-lookup.collapser.max-batch-size:50}") int maxBatchSize) {
+        this.foodClient = foodClient;
+        this.foodRequestHedger = foodRequestHedger;
+        this.enabled = enabled;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = enabled ? Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("food-lookup-collapser").factory()) : null;
+        this.executor = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.lookups = meterRegistry.counter("food.lookup.collapser.requests");
+        this.upstreamCalls = meterRegistry.counter("food.lookup.collapser.upstream.calls");
+        this.batchSizes = meterRegistry.summary("food.lookup.collapser.batch.size");
+    }
+
+    public FoodDto getFoodById(String foodId) {
+        if (!enabled) {
+            return foodRequestHedger.call(() -> foodClient.getFoodById(foodId));
+        }
+        lookups.increment();
+        try {
+            return submit(foodId).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (enabled) {
+            scheduler.shutdownNow();
+            executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<FoodDto> submit(String foodId) {
+        Map<String, CompletableFuture<FoodDto>> full = null;
+        CompletableFuture<FoodDto> future;
+        synchronized (this) {
+            future = pending.get(foodId);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(foodId, future);
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            } else if (pending.size() == 1) {
+                Map<String, CompletableFuture<FoodDto>> batch = pending;
+                scheduler.schedule(() -> flushIfPending(batch),
+                        window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            Map<String, CompletableFuture<FoodDto>> batch = full;
+            executor.execute(() -> load(batch));
+        }
+        return future;
+    }
+
+    private void flushIfPending(Map<String, CompletableFuture<FoodDto>> batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+            drain();
+        }
+        executor.execute(() -> load(batch));
+    }
+
+    private Map<String, CompletableFuture<FoodDto>> drain() {
+        Map<String, CompletableFuture<FoodDto>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void load(Map<String, CompletableFuture<FoodDto>> batch) {
+        upstreamCalls.increment();
+        batchSizes.record(batch.size());
+        try {
+            List<String> ids = new ArrayList<>(batch.keySet());
+            List<FoodDto> foods = foodRequestHedger.call(() -> foodClient.getFoodsByIds(ids));
+            Map<String, FoodDto> byId = new HashMap<>();
+            if (foods != null) {
+                foods.forEach(food -> byId.put(food.getId(), food));
+            }
+            batch.forEach((id, future) -> {
+                FoodDto food = byId.get(id);
+                if (food != null) {
+                    future.complete(food);
+                } else {
+                    future.completeExceptionally(new NotFoundException(
+                            FoodErrorCode.FOOD_NOT_FOUND, "Food not found"));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Batched food lookup failed for {} ids", batch.size(), e);
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class FoodRequestHedger {
+    private static final int WINDOW_SIZE = 512;
+    private static final int RECOMPUTE_EVERY = 32;
+    private static final int MIN_SAMPLES = 64;
+    private static final double MAX_BUDGET_TOKENS = 10;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final double budget;
+    private final long minDelayNanos;
+    private final ExecutorService executor;
+    private final Counter requests;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int recorded;
+    private double budgetTokens;
+    private volatile long thresholdNanos;
+
+    public FoodRequestHedger(
+            MeterRegistry meterRegistry,
+            @Value("${app.food-service.hedging.enabled:false}") boolean enabled,
+            @Value("${app.food-service.hedging.percentile:0.95}") double percentile,
+            @Value("${app.food-service.hedging.budget:0.05}") double budget,
+            @Value("${app.food-service.hedging.min-delay:10ms}") Duration minDelay) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budget = budget;
+        this.minDelayNanos = minDelay.toNanos();
+        this.thresholdNanos = minDelayNanos;
+        this.executor = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.requests = meterRegistry.counter("food.service.hedge.requests");
+        this.hedges = meterRegistry.counter("food.service.hedge.sent");
+        this.hedgeWins = meterRegistry.counter("food.service.hedge.wins");
+        Gauge.builder("food.service.hedge.threshold", this,
+                        hedger -> hedger.thresholdNanos / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        if (!enabled) {
+            return supplier.get();
+        }
+        requests.increment();
+        addBudget();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        Future<?> primary = executor.submit(() -> attempt(supplier, result, outstanding, false));
+        Future<?> hedge = null;
+        try {
+            try {
+                return result.get(thresholdNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (!result.isDone() && tryAcquireBudget()) {
+                    outstanding.incrementAndGet();
+                    hedges.increment();
+                    hedge = executor.submit(() -> attempt(supplier, result, outstanding, true));
+                }
+            }
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (enabled) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> void attempt(Supplier<T> supplier, CompletableFuture<T> result,
+                             AtomicInteger outstanding, boolean hedged) {
+        long start = System.nanoTime();
+        try {
+            T value = supplier.get();
+            recordLatency(System.nanoTime() - start);
+            if (result.complete(value) && hedged) {
+                hedgeWins.increment();
+            }
+        } catch (Throwable e) {
+            if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            } else {
+                log.debug("Food service attempt failed, waiting for the other attempt", e);
+            }
+        }
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        latencies[recorded % WINDOW_SIZE] = nanos;
+        recorded++;
+        if (recorded >= MIN_SAMPLES && recorded % RECOMPUTE_EVERY == 0) {
+            long[] window = Arrays.copyOf(latencies, Math.min(recorded, WINDOW_SIZE));
+            Arrays.sort(window);
+            int index = (int) Math.ceil(percentile * window.length) - 1;
+            thresholdNanos = Math.max(minDelayNanos, window[Math.max(index, 0)]);
+        }
+    }
+
+    private synchronized void addBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + budget);
+    }
+
+    private synchronized boolean tryAcquireBudget() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens--;
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.olehprukhnytskyi.exception.ExternalServiceException;
+import com.olehprukhnytskyi.exception.error.CommonErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class FoodServiceGuard {
+    public static final String NAME = "food-service";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final Retry retry;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("food-service-guard").factory());
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FoodServiceGuard(CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                            TimeLimiter timeLimiter, Retry retry, MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.timeLimiter = timeLimiter;
+        this.retry = retry;
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("Food service circuit breaker transition: {}",
+                    event.getStateTransition());
+            meterRegistry.counter("food.service.circuit.transitions",
+                    "from", event.getStateTransition().getFromState().name(),
+                    "to", event.getStateTransition().getToState().name()).increment();
+        });
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        Supplier<CompletionStage<T>> call = () -> submit(supplier);
+        Supplier<CompletionStage<T>> guarded = timeLimiter.decorateCompletionStage(scheduler, call);
+        guarded = CircuitBreaker.decorateCompletionStage(circuitBreaker, guarded);
+        guarded = Retry.decorateCompletionStage(retry, scheduler, guarded);
+        try {
+            return guarded.get().toCompletableFuture().join();
+        } catch (CompletionException e) {
+            throw translate(e.getCause());
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+        if (!bulkhead.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(
+                    BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(supplier.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    bulkhead.onComplete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.onComplete();
+            return CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((value, error) -> {
+            if (error instanceof TimeoutException || error instanceof CancellationException) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private RuntimeException translate(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (cause instanceof CallNotPermittedException) {
+            return new ExternalServiceException(CommonErrorCode.UPSTREAM_SERVICE_UNAVAILABLE,
+                    "Food service is unavailable, circuit breaker is open");
+        }
+        if (cause instanceof BulkheadFullException) {
+            return new ExternalServiceException(CommonErrorCode.UPSTREAM_SERVICE_UNAVAILABLE,
+                    "Food service is overloaded, too many concurrent calls");
+        }
+        if (cause instanceof TimeoutException) {
+            return new ExternalServiceException(CommonErrorCode.UPSTREAM_SERVICE_UNAVAILABLE,
+                    "Food service did not respond in time");
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        log.error("Food service call failed", cause);
+        return new ExternalServiceException(CommonErrorCode.UPSTREAM_SERVICE_UNAVAILABLE,
+                "Food service call failed");
+    }
+}
@@ -0,0 +1,89 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.FoodSnapshotMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.FoodSnapshot;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.FoodSnapshotRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+public class FoodSnapshotStore {
+    private final FoodSnapshotRepository foodSnapshotRepository;
+    private final FoodSnapshotMapper foodSnapshotMapper;
+    private final Duration refreshAfter;
+
+    public FoodSnapshotStore(
+            FoodSnapshotRepository foodSnapshotRepository,
+            FoodSnapshotMapper foodSnapshotMapper,
+            @Value("${app.food-snapshot.refresh-after:1h}") Duration refreshAfter) {
+        this.foodSnapshotRepository = foodSnapshotRepository;
+        this.foodSnapshotMapper = foodSnapshotMapper;
+        this.refreshAfter = refreshAfter;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Snapshot> find(String foodId) {
+        return foodSnapshotRepository.findById(foodId).map(this::toSnapshot);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Snapshot> findAll(Collection<String> foodIds) {
+        Map<String, Snapshot> snapshots = new HashMap<>();
+        foodSnapshotRepository.findAllById(foodIds)
+                .forEach(snapshot -> snapshots.put(snapshot.getFoodId(), toSnapshot(snapshot)));
+        return snapshots;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(Collection<FoodDto> foods) {
+        Instant now = Instant.now();
+        List<FoodSnapshot> snapshots = foods.stream()
+                .map(food -> {
+                    FoodSnapshot snapshot = foodSnapshotMapper.toModel(food);
+                    snapshot.setRefreshedAt(now);
+                    return snapshot;
+                })
+                .toList();
+        foodSnapshotRepository.saveAll(snapshots);
+        log.debug("Stored {} food snapshots", snapshots.size());
+    }
+
+    @Transactional
+    public void markStale(String foodId) {
+        foodSnapshotRepository.markRefreshedAt(foodId, Instant.EPOCH);
+    }
+
+    @Transactional
+    public void markAllStale() {
+        foodSnapshotRepository.markAllRefreshedAt(Instant.EPOCH);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void delete(String foodId) {
+        foodSnapshotRepository.deleteById(foodId);
+    }
+
+    private Snapshot toSnapshot(FoodSnapshot snapshot) {
+        boolean stale = snapshot.getRefreshedAt().plus(refreshAfter).isBefore(Instant.now());
+        boolean invalidated = !snapshot.getRefreshedAt().isAfter(Instant.EPOCH);
+        return new Snapshot(foodSnapshotMapper.toDto(snapshot), stale, invalidated);
+    }
+
+    public record Snapshot(FoodDto food, boolean stale, boolean invalidated) {
+        public Snapshot(FoodDto food, boolean stale) {
+            this(food, stale, false);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheBatch;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheGenerations;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheWriteMode;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.TwoTierCache;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.RollupPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+public class IntakeCacheWriter {
+    private final CacheManager cacheManager;
+    private final CacheGenerations cacheGenerations;
+    private final MeterRegistry meterRegistry;
+    private final CacheWriteMode mode;
+
+    public IntakeCacheWriter(CacheManager cacheManager, CacheGenerations cacheGenerations,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.cache.write-mode:evict}") CacheWriteMode mode) {
+        this.cacheManager = cacheManager;
+        this.cacheGenerations = cacheGenerations;
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+    }
+
+    public void added(Long userId, LocalDate date, List<IntakeResponseDto> intakes) {
+        afterCommit(userId, date, cached -> {
+            List<IntakeResponseDto> patched = new ArrayList<>(cached);
+            for (IntakeResponseDto intake : intakes) {
+                IntakeResponseDto existing = find(cached, intake.getId());
+                if (existing == null) {
+                    patched.add(intake);
+                } else if (!isAtLeast(existing, intake)) {
+                    return null;
+                }
+            }
+            return patched;
+        });
+    }
+
+    public void updated(Long userId, IntakeResponseDto previous, IntakeResponseDto intake) {
+        if (!Objects.equals(previous.getDate(), intake.getDate())) {
+            afterCommit(userId, previous.getDate(), cached -> {
+                IntakeResponseDto existing = find(cached, intake.getId());
+                if (existing == null || isAtLeast(existing, intake)) {
+                    return cached;
+                }
+                if (existing.getVersion() == null || intake.getVersion() == null) {
+                    return null;
+                }
+                List<IntakeResponseDto> patched = new ArrayList<>(cached);
+                patched.remove(existing);
+                return patched;
+            });
+        }
+        afterCommit(userId, intake.getDate(), cached -> {
+            IntakeResponseDto existing = find(cached, intake.getId());
+            if (existing == null) {
+                return null;
+            }
+            if (isAtLeast(existing, intake)) {
+                return cached;
+            }
+            if (existing.getVersion() == null || intake.getVersion() == null) {
+                return null;
+            }
+            List<IntakeResponseDto> patched = new ArrayList<>(cached);
+            patched.set(cached.indexOf(existing), intake);
+            return patched;
+        });
+    }
+
+    public void removed(Long userId, LocalDate date, Predicate<IntakeResponseDto> filter) {
+        afterCommit(userId, date, cached -> {
+            List<IntakeResponseDto> patched = new ArrayList<>(cached);
+            patched.removeIf(filter);
+            return patched;
+        });
+    }
+
+    public void evictDays(Map<Long, ? extends Collection<LocalDate>> days) {
+        LocalDate today = LocalDate.now();
+        List<String> dayKeys = new ArrayList<>();
+        Set<String> rollupKeys = new LinkedHashSet<>();
+        days.forEach((userId, dates) -> {
+            cacheGenerations.bump(CacheConstants.USER_INTAKES_HISTORY, userId);
+            for (LocalDate date : dates) {
+                dayKeys.add(userId + ":" + date);
+                for (RollupPeriod period : RollupPeriod.values()) {
+                    if (period.isClosed(date, today)) {
+                        rollupKeys.add(period.cacheKey(userId, date));
+                    }
+                }
+            }
+        });
+        CacheBatch.evictAll(cacheManager.getCache(CacheConstants.USER_INTAKES), dayKeys);
+        CacheBatch.evictAll(cacheManager.getCache(CacheConstants.USER_NUTRITION_ROLLUPS),
+                rollupKeys);
+        meterRegistry.counter("cache.write", "cache", CacheConstants.USER_INTAKES,
+                "mode", "bulk", "result", "evicted").increment(dayKeys.size());
+    }
+
+    public void evictAllDays() {
+        for (String name : List.of(CacheConstants.USER_INTAKES,
+                CacheConstants.USER_INTAKES_HISTORY, CacheConstants.USER_NUTRITION_ROLLUPS)) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private IntakeResponseDto find(List<IntakeResponseDto> cached, Long id) {
+        for (IntakeResponseDto existing : cached) {
+            if (Objects.equals(existing.getId(), id)) {
+                return existing;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAtLeast(IntakeResponseDto cached, IntakeResponseDto intake) {
+        return cached.getVersion() != null && intake.getVersion() != null
+                && cached.getVersion() >= intake.getVersion();
+    }
+
+    private void afterCommit(Long userId, LocalDate date,
+                             UnaryOperator<List<IntakeResponseDto>> patch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(userId, date, patch);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        write(userId, date, patch);
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(Long userId, LocalDate date,
+                       UnaryOperator<List<IntakeResponseDto>> patch) {
+        cacheGenerations.bump(CacheConstants.USER_INTAKES_HISTORY, userId);
+        evictClosedRollups(userId, date);
+        String key = userId + ":" + date;
+        try {
+            Cache cache = cacheManager.getCache(CacheConstants.USER_INTAKES);
+            if (cache == null) {
+                return;
+            }
+            if (mode == CacheWriteMode.WRITE_THROUGH && cache instanceof TwoTierCache twoTier) {
+                boolean patched = twoTier.patch(key,
+                        cached -> patch.apply((List<IntakeResponseDto>) cached));
+                count(patched ? "patched" : "evicted");
+                return;
+            }
+            cache.evict(key);
+            count("evicted");
+        } catch (Exception e) {
+            log.error("Failed to update cache for key {}", key, e);
+        }
+    }
+
+    private void evictClosedRollups(Long userId, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        try {
+            Cache cache = cacheManager.getCache(CacheConstants.USER_NUTRITION_ROLLUPS);
+            if (cache == null) {
+                return;
+            }
+            for (RollupPeriod period : RollupPeriod.values()) {
+                if (period.isClosed(date, today)) {
+                    cache.evict(period.cacheKey(userId, date));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to evict rollups for userId={} date={}", userId, date, e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("cache.write", "cache", CacheConstants.USER_INTAKES,
+                "mode", mode.name().toLowerCase(), "result", result).increment();
+    }
+}
@@ -0,0 +1,76 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeChangedEvent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.IntakeMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.OutboxEvent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.OutboxEventRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class IntakeOutboxWriter {
+    public static final String AGGREGATE_TYPE = "intake";
+    public static final String INTAKE_CREATED = "INTAKE_CREATED";
+    public static final String INTAKE_UPDATED = "INTAKE_UPDATED";
+    public static final String INTAKE_DELETED = "INTAKE_DELETED";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final IntakeMapper intakeMapper;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void created(List<Intake> intakes) {
+        write(INTAKE_CREATED, intakes);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updated(Intake intake) {
+        write(INTAKE_UPDATED, List.of(intake));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updated(List<Intake> intakes) {
+        write(INTAKE_UPDATED, intakes);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleted(List<Intake> intakes) {
+        write(INTAKE_DELETED, intakes);
+    }
+
+    private void write(String eventType, List<Intake> intakes) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = intakes.stream()
+                .map(intake -> OutboxEvent.builder()
+                        .aggregateType(AGGREGATE_TYPE)
+                        .aggregateId(String.valueOf(intake.getId()))
+                        .eventType(eventType)
+                        .payload(toPayload(eventType, intake))
+                        .createdAt(now)
+                        .build())
+                .toList();
+        outboxEventRepository.saveAll(events);
+    }
+
+    private String toPayload(String eventType, Intake intake) {
+        IntakeChangedEvent event = IntakeChangedEvent.builder()
+                .eventType(eventType)
+                .userId(intake.getUserId())
+                .foodId(intake.getFoodId())
+                .intake(intakeMapper.toDto(intake))
+                .build();
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + eventType + " event", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.olehprukhnytskyi.exception.BadRequestException;
+import com.olehprukhnytskyi.exception.error.CommonErrorCode;
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.IntakeRecomputeJobConfig;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class IntakeRecomputeService {
+    private static final String REQUESTED_AT = "requestedAt";
+    private static final Set<BatchStatus> RESTARTABLE = Set.of(
+            BatchStatus.FAILED, BatchStatus.STOPPED);
+
+    private final Job intakeRecomputeJob;
+    private final JobExplorer jobExplorer;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public IntakeRecomputeService(@Qualifier("intakeRecomputeJob") Job intakeRecomputeJob,
+                                  JobRepository jobRepository, JobExplorer jobExplorer) {
+        this.intakeRecomputeJob = intakeRecomputeJob;
+        this.jobExplorer = jobExplorer;
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new VirtualThreadTaskExecutor("intake-recompute-job-"));
+    }
+
+    public Long launch(boolean dryRun, boolean refreshFoods) {
+        JobParameters parameters = new JobParametersBuilder()
+                .addJobParameter(IntakeRecomputeJobConfig.DRY_RUN, dryRun, Boolean.class)
+                .addJobParameter(IntakeRecomputeJobConfig.REFRESH_FOODS, refreshFoods,
+                        Boolean.class)
+                .addLong(REQUESTED_AT, System.currentTimeMillis())
+                .toJobParameters();
+        return run(parameters);
+    }
+
+    public Long restart(Long executionId) {
+        JobExecution previous = jobExplorer.getJobExecution(executionId);
+        if (previous == null || !IntakeRecomputeJobConfig.JOB_NAME.equals(
+                previous.getJobInstance().getJobName())) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    "Unknown recompute execution id: " + executionId);
+        }
+        if (!RESTARTABLE.contains(previous.getStatus())) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    "Recompute execution " + executionId + " is " + previous.getStatus()
+                            + " and cannot be restarted");
+        }
+        return run(previous.getJobParameters());
+    }
+
+    private Long run(JobParameters parameters) {
+        try {
+            JobExecution execution = jobLauncher.run(intakeRecomputeJob, parameters);
+            log.info("Launched intake recompute executionId={} parameters={}",
+                    execution.getId(), parameters);
+            return execution.getId();
+        } catch (JobExecutionAlreadyRunningException e) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    "Intake recompute is already running");
+        } catch (JobInstanceAlreadyCompleteException | JobRestartException
+                 | JobParametersInvalidException e) {
+            throw new IllegalStateException("Cannot launch intake recompute", e);
+        }
+    }
+}
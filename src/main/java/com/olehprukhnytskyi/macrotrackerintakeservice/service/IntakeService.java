@@ -1,12 +1,13 @@
 package com.olehprukhnytskyi.macrotrackerintakeservice.service;
 
-import com.olehprukhnytskyi.event.UserDeletedEvent;
 import com.olehprukhnytskyi.exception.BadRequestException;
 import com.olehprukhnytskyi.exception.ExternalServiceException;
 import com.olehprukhnytskyi.exception.NotFoundException;
 import com.olehprukhnytskyi.exception.error.CommonErrorCode;
 import com.olehprukhnytskyi.exception.error.FoodErrorCode;
 import com.olehprukhnytskyi.exception.error.IntakeErrorCode;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheBatch;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.CacheablePage;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeRequestDto;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
@@ -14,64 +15,58 @@ import com.olehprukhnytskyi.macrotrackerintakeservice.dto.UpdateIntakeRequestDto
 import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.IntakeMapper;
 import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.NutrimentsMapper;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
-import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
-import com.olehprukhnytskyi.macrotrackerintakeservice.producer.UserEventProducer;
 import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeView;
 import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.NutrientCalculationStrategy;
 import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.NutrientStrategyFactory;
 import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
 import com.olehprukhnytskyi.util.UnitType;
 import feign.FeignException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IntakeService {
-    private static final int DELETE_BATCH_SIZE = 1000;
+    public static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int MAX_RANGE_DAYS = 93;
     private final NutrientStrategyFactory strategyFactory;
     private final IntakeRepository intakeRepository;
+    private final IntakeCacheWriter intakeCacheWriter;
+    private final IntakeOutboxWriter intakeOutboxWriter;
+    private final DailySummaryService dailySummaryService;
     private final CacheManager cacheManager;
     private final IntakeMapper intakeMapper;
     private final NutrimentsMapper nutrimentsMapper;
     private final FoodClientService foodClientService;
-    private final UserEventProducer userEventProducer;
+    private final TransactionTemplate transactionTemplate;
 
-    @CacheEvict(value = CacheConstants.USER_INTAKES, key = "#userId + ':' + #intakeRequest.date")
-    @Transactional
     public IntakeResponseDto save(IntakeRequestDto intakeRequest, Long userId) {
         log.info("Saving intake for userId={}", userId);
+        FoodDto food;
         try {
-            FoodDto food = foodClientService.getFoodById(intakeRequest.getFoodId());
-            UnitType type = intakeRequest.getUnitType() != null
-                    ? intakeRequest.getUnitType() : UnitType.GRAMS;
-            validateUnitSupported(food, type);
-
-            Intake intake = intakeMapper.toModel(intakeRequest);
-            intake.setUserId(userId);
-            intake.setFoodId(intakeRequest.getFoodId());
-            intake.setUnitType(type);
-
-            NutrientCalculationStrategy strategy = strategyFactory.getStrategy(type);
-            Nutriments calculatedNutriments = nutrimentsMapper
-                    .fromFoodNutriments(food.getNutriments());
-            strategy.calculate(calculatedNutriments, intakeRequest.getAmount());
-            intake.setNutriments(calculatedNutriments);
-
-            intakeMapper.updateIntakeFromFoodDto(intake, food);
-            Intake saved = intakeRepository.save(intake);
-            log.debug("Intake saved successfully for userId={} intakeId={}", userId, saved.getId());
-            return intakeMapper.toDto(saved);
+            food = foodClientService.getFoodById(intakeRequest.getFoodId());
         } catch (FeignException.NotFound ex) {
             log.warn("Food not found for foodId={} userId={}", intakeRequest.getFoodId(), userId);
             throw new NotFoundException(FoodErrorCode.FOOD_NOT_FOUND, "Food not found");
@@ -81,18 +76,123 @@ public class IntakeService {
             throw new ExternalServiceException(CommonErrorCode.UPSTREAM_SERVICE_UNAVAILABLE,
                     "Food service is unavailable");
         }
+        Intake intake = toIntake(intakeRequest, food, userId);
+        return transactionTemplate.execute(status -> {
+            Intake saved = intakeRepository.save(intake);
+            log.debug("Intake saved successfully for userId={} intakeId={}", userId, saved.getId());
+            dailySummaryService.added(List.of(saved));
+            intakeOutboxWriter.created(List.of(saved));
+            IntakeResponseDto response = intakeMapper.toDto(saved);
+            intakeCacheWriter.added(userId, intakeRequest.getDate(), List.of(response));
+            return response;
+        });
     }
 
-    @Cacheable(value = CacheConstants.USER_INTAKES, key = "#userId + ':' + #date")
+    public List<IntakeResponseDto> saveAll(List<IntakeRequestDto> intakeRequests, Long userId) {
+        log.info("Saving {} intakes for userId={}", intakeRequests.size(), userId);
+        List<String> foodIds = intakeRequests.stream()
+                .map(IntakeRequestDto::getFoodId)
+                .distinct()
+                .toList();
+        Map<String, FoodDto> foods = fetchFoods(foodIds, userId);
+        List<Intake> intakes = intakeRequests.stream()
+                .map(request -> newIntake(request, foods.get(request.getFoodId()), userId))
+                .toList();
+        calculateNutrients(intakes);
+        return transactionTemplate.execute(status -> {
+            List<Intake> saved = intakeRepository.saveAll(intakes);
+            log.debug("Saved {} intakes for userId={}", saved.size(), userId);
+            dailySummaryService.added(saved);
+            intakeOutboxWriter.created(saved);
+            List<IntakeResponseDto> response = saved.stream()
+                    .map(intakeMapper::toDto)
+                    .toList();
+            response.stream()
+                    .collect(Collectors.groupingBy(IntakeResponseDto::getDate,
+                            LinkedHashMap::new, Collectors.toList()))
+                    .forEach((date, added) -> intakeCacheWriter.added(userId, date, added));
+            return response;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheConstants.USER_INTAKES, key = "#userId + ':' + #date", sync = true)
     public List<IntakeResponseDto> findByDate(LocalDate date, Long userId) {
         log.debug("Fetching intake list for userId={} date={}", userId, date);
-        List<Intake> intakes = (date != null)
-                ? intakeRepository.findByUserIdAndDate(userId, date)
-                : intakeRepository.findByUserId(userId);
+        List<IntakeView> intakes = intakeRepository.findViewsByUserIdAndDate(userId, date);
         log.debug("Fetched {} intake records for userId={}", intakes.size(), userId);
-        return intakes.stream()
+        List<IntakeResponseDto> response = new ArrayList<>(intakes.size());
+        for (IntakeView intake : intakes) {
+            response.add(intake.toDto());
+        }
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<LocalDate, List<IntakeResponseDto>> findByDateRange(LocalDate from, LocalDate to,
+                                                                   Long userId) {
+        validateRange(from, to);
+        log.debug("Fetching intakes for userId={} from={} to={}", userId, from, to);
+        List<LocalDate> days = from.datesUntil(to.plusDays(1)).toList();
+        Map<String, LocalDate> dayByKey = new LinkedHashMap<>();
+        days.forEach(day -> dayByKey.put(userId + ":" + day, day));
+        Cache cache = cacheManager.getCache(CacheConstants.USER_INTAKES);
+        Map<String, Object> cached = CacheBatch.getAll(cache, new ArrayList<>(dayByKey.keySet()));
+
+        Map<LocalDate, List<IntakeResponseDto>> result = new TreeMap<>();
+        cached.forEach((key, value) ->
+                result.put(dayByKey.get(key), (List<IntakeResponseDto>) value));
+        List<LocalDate> missingDays = days.stream()
+                .filter(day -> !result.containsKey(day))
+                .toList();
+        if (missingDays.isEmpty()) {
+            return result;
+        }
+
+        Map<LocalDate, List<IntakeResponseDto>> loaded = new HashMap<>();
+        missingDays.forEach(day -> loaded.put(day, new ArrayList<>()));
+        List<Intake> intakes = intakeRepository.findByUserIdAndDateBetweenOrderByDateAscIdAsc(
+                userId, missingDays.getFirst(), missingDays.getLast());
+        for (Intake intake : intakes) {
+            List<IntakeResponseDto> day = loaded.get(intake.getDate());
+            if (day != null) {
+                day.add(intakeMapper.toDto(intake));
+            }
+        }
+        log.debug("Loaded {} uncached days for userId={}", missingDays.size(), userId);
+        result.putAll(loaded);
+        Map<String, Object> entries = new HashMap<>();
+        loaded.forEach((day, dayIntakes) -> entries.put(userId + ":" + day, dayIntakes));
+        CacheBatch.putAllIfAbsent(cache, entries);
+        return result;
+    }
+
+    @Cacheable(value = CacheConstants.USER_INTAKES_HISTORY, sync = true,
+            key = "#userId + ':' + @cacheGenerations.current(#root.caches[0].name, #userId)"
+                    + " + ':' + #cursor + ':' + #size")
+    public CacheablePage<IntakeResponseDto> findHistory(Long userId, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_HISTORY_PAGE_SIZE);
+        log.debug("Fetching intake history for userId={} cursor={} size={}",
+                userId, cursor, pageSize);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Intake> intakes;
+        if (cursor == null || cursor.isBlank()) {
+            intakes = intakeRepository.findHistoryFirstPage(userId, pageable);
+        } else {
+            HistoryCursor position = HistoryCursor.decode(cursor);
+            intakes = intakeRepository.findHistoryPageAfter(
+                    userId, position.date(), position.id(), pageable);
+        }
+        String nextCursor = null;
+        if (intakes.size() > pageSize) {
+            intakes = intakes.subList(0, pageSize);
+            Intake last = intakes.getLast();
+            nextCursor = new HistoryCursor(last.getDate(), last.getId()).encode();
+        }
+        List<IntakeResponseDto> content = intakes.stream()
                 .map(intakeMapper::toDto)
                 .collect(Collectors.toList());
+        return CacheablePage.ofCursor(content, pageSize, nextCursor);
     }
 
     @Transactional
@@ -102,7 +202,8 @@ public class IntakeService {
         Intake intake = intakeRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new NotFoundException(IntakeErrorCode.INTAKE_NOT_FOUND,
                         "Intake not found"));
-        manualEvict(userId, intake.getDate());
+        IntakeResponseDto before = intakeMapper.toDto(intake);
+        DailySummaryService.Delta previous = DailySummaryService.Delta.removed(intake);
         int oldAmount = intake.getAmount();
         int newAmount = intakeRequest.getAmount();
         intakeMapper.updateFromDto(intake, intakeRequest);
@@ -111,32 +212,89 @@ public class IntakeService {
                     .getStrategy(intake.getUnitType());
             strategy.calculate(intake.getNutriments(), newAmount);
         }
-        Intake saved = intakeRepository.save(intake);
+        Intake saved = intakeRepository.saveAndFlush(intake);
         log.debug("Intake updated successfully id={} userId={}", id, userId);
-        return intakeMapper.toDto(saved);
+        dailySummaryService.apply(List.of(previous, DailySummaryService.Delta.added(saved)));
+        intakeOutboxWriter.updated(saved);
+        IntakeResponseDto response = intakeMapper.toDto(saved);
+        intakeCacheWriter.updated(userId, before, response);
+        return response;
     }
 
     @Transactional
     public void deleteById(Long id, Long userId) {
         log.info("Deleting intake id={} for userId={}", id, userId);
         intakeRepository.findByIdAndUserId(id, userId).ifPresent(intake -> {
-            manualEvict(userId, intake.getDate());
             intakeRepository.delete(intake);
+            dailySummaryService.removed(List.of(intake));
+            intakeOutboxWriter.deleted(List.of(intake));
+            intakeCacheWriter.removed(userId, intake.getDate(),
+                    cached -> id.equals(cached.getId()));
         });
     }
 
-    @Transactional
-    public void deleteUserIntakesRecursively(Long userId) {
-        log.info("Processing batch deletion for user: {}", userId);
-        int deletedCount = intakeRepository.deleteBatchByUserId(userId, DELETE_BATCH_SIZE);
-        log.info("Deleted {} intake records for user {}", deletedCount, userId);
-        if (deletedCount >= DELETE_BATCH_SIZE) {
-            log.info("User {} still has data. Republishing event to continue deletion.",
-                    userId);
-            userEventProducer.sendUserDeletedEvent(new UserDeletedEvent(userId));
-        } else {
-            log.info("Data cleanup completed for user {}", userId);
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    "Range must have 'from' on or before 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    String.format("Range must not exceed %d days", MAX_RANGE_DAYS));
+        }
+    }
+
+    private Map<String, FoodDto> fetchFoods(List<String> foodIds, Long userId) {
+        List<FoodDto> foods;
+        try {
+            foods = foodClientService.getFoodsByIds(foodIds);
+        } catch (FeignException ex) {
+            log.error("Food service unavailable while saving intakes for userId={}", userId);
+            throw new ExternalServiceException(CommonErrorCode.UPSTREAM_SERVICE_UNAVAILABLE,
+                    "Food service is unavailable");
+        }
+        Map<String, FoodDto> foodById = foods == null ? Map.of() : foods.stream()
+                .collect(Collectors.toMap(FoodDto::getId, food -> food, (first, second) -> first));
+        List<String> missingIds = foodIds.stream()
+                .filter(id -> !foodById.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            log.warn("Foods not found for foodIds={} userId={}", missingIds, userId);
+            throw new NotFoundException(FoodErrorCode.FOOD_NOT_FOUND,
+                    "Foods not found with ids: " + String.join(", ", missingIds));
         }
+        return foodById;
+    }
+
+    private Intake toIntake(IntakeRequestDto intakeRequest, FoodDto food, Long userId) {
+        Intake intake = newIntake(intakeRequest, food, userId);
+        NutrientCalculationStrategy strategy = strategyFactory.getStrategy(intake.getUnitType());
+        strategy.calculate(intake.getNutriments(), intakeRequest.getAmount());
+        return intake;
+    }
+
+    private Intake newIntake(IntakeRequestDto intakeRequest, FoodDto food, Long userId) {
+        UnitType type = intakeRequest.getUnitType() != null
+                ? intakeRequest.getUnitType() : UnitType.GRAMS;
+        validateUnitSupported(food, type);
+
+        Intake intake = intakeMapper.toModel(intakeRequest);
+        intake.setUserId(userId);
+        intake.setFoodId(intakeRequest.getFoodId());
+        intake.setUnitType(type);
+        intake.setNutriments(nutrimentsMapper.fromFoodNutriments(food.getNutriments()));
+
+        intakeMapper.updateIntakeFromFoodDto(intake, food);
+        return intake;
+    }
+
+    private void calculateNutrients(List<Intake> intakes) {
+        intakes.stream()
+                .collect(Collectors.groupingBy(
+                        intake -> strategyFactory.getStrategy(intake.getUnitType())))
+                .forEach((strategy, group) -> strategy.calculateAll(
+                        group.stream().map(Intake::getNutriments).toList(),
+                        group.stream().mapToInt(Intake::getAmount).toArray()));
     }
 
     private void validateUnitSupported(FoodDto food, UnitType requestedUnit) {
@@ -150,15 +308,24 @@ public class IntakeService {
         }
     }
 
-    private void manualEvict(Long userId, LocalDate date) {
-        String key = userId + ":" + date;
-        try {
-            Cache cache = cacheManager.getCache(CacheConstants.USER_INTAKES);
-            if (cache != null) {
-                cache.evict(key);
+    private record HistoryCursor(LocalDate date, Long id) {
+        String encode() {
+            String raw = date + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static HistoryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor),
+                        StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf(':');
+                return new HistoryCursor(LocalDate.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                        "Invalid history cursor");
             }
-        } catch (Exception e) {
-            log.error("Failed to evict cache", e);
         }
     }
 }
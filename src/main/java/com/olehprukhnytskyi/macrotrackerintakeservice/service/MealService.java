@@ -15,7 +15,6 @@ import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.NutrimentsMapper;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplate;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
-import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
 import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
 import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.MealTemplateRepository;
 import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.NutrientCalculationStrategy;
@@ -34,35 +33,38 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MealService {
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
     private final NutrientStrategyFactory strategyFactory;
     private final IntakeRepository intakeRepository;
     private final MealTemplateRepository mealTemplateRepository;
     private final IntakeMapper intakeMapper;
     private final MealTemplateMapper mealTemplateMapper;
-    private final CacheManager cacheManager;
+    private final IntakeCacheWriter intakeCacheWriter;
+    private final IntakeOutboxWriter intakeOutboxWriter;
+    private final DailySummaryService dailySummaryService;
     private final NutrimentsMapper nutrimentsMapper;
     private final FoodClientService foodClientService;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheConstants.MEAL_TEMPLATES, key = "#userId")
+    @Cacheable(value = CacheConstants.MEAL_TEMPLATES, key = "#userId", sync = true)
     public List<MealTemplateResponseDto> getTemplates(Long userId) {
         log.info("Fetching meal templates from DB for userId={}", userId);
         List<MealTemplate> templates = mealTemplateRepository.findAllByUserId(userId);
         return mealTemplateMapper.toDtoList(templates);
     }
 
-    @Transactional
     @CacheEvict(value = CacheConstants.MEAL_TEMPLATES, key = "#userId")
     public Long createTemplate(MealTemplateRequestDto request, Long userId) {
         log.info("Creating meal template '{}' for userId={}", request.getName(), userId);
@@ -76,7 +78,6 @@ public class MealService {
     }
 
     @Transactional
-    @CacheEvict(value = CacheConstants.USER_INTAKES, key = "#userId + ':' + #date")
     public List<IntakeResponseDto> applyTemplate(Long templateId, LocalDate date,
                                                  IntakePeriod period, Long userId) {
         log.info("Applying template id={} for userId={} on date={}", templateId, userId, date);
@@ -89,14 +90,25 @@ public class MealService {
         List<Intake> savedIntakes = intakeRepository.saveAll(newIntakes);
         log.debug("Applied template '{}', created {} intake records",
                 template.getName(), savedIntakes.size());
-        return savedIntakes.stream().map(intakeMapper::toDto).toList();
+        dailySummaryService.added(savedIntakes);
+        intakeOutboxWriter.created(savedIntakes);
+        List<IntakeResponseDto> response = savedIntakes.stream()
+                .map(intakeMapper::toDto)
+                .toList();
+        intakeCacheWriter.added(userId, date, response);
+        return response;
     }
 
     @Transactional
     public void revertIntakeGroup(String mealGroupId, Long userId) {
         log.info("Reverting intake group {} for user {}", mealGroupId, userId);
-        intakeRepository.findFirstByMealGroupIdAndUserId(mealGroupId, userId)
-                .ifPresent(intake -> manualEvictUserIntakes(userId, intake.getDate()));
+        List<Intake> intakes = intakeRepository.findByMealGroupIdAndUserId(mealGroupId, userId);
+        if (!intakes.isEmpty()) {
+            dailySummaryService.removed(intakes);
+            intakeOutboxWriter.deleted(intakes);
+            intakeCacheWriter.removed(userId, intakes.getFirst().getDate(),
+                    cached -> mealGroupId.equals(cached.getMealGroupId()));
+        }
         intakeRepository.deleteByMealGroupIdAndUserId(mealGroupId, userId);
     }
 
@@ -110,45 +122,75 @@ public class MealService {
         mealTemplateRepository.delete(template);
     }
 
-    @Transactional
     @CacheEvict(value = CacheConstants.MEAL_TEMPLATES, key = "#userId")
     public void updateTemplate(Long templateId, MealTemplateRequestDto request, Long userId) {
         log.info("Updating template id={} for userId={}", templateId, userId);
-        MealTemplate template = mealTemplateRepository.findByIdAndUserId(templateId, userId)
-                .orElseThrow(() -> new NotFoundException(IntakeErrorCode.INTAKE_NOT_FOUND,
-                        "Template not found"));
-        template.setName(request.getName());
         Map<String, MealTemplateRequestDto.TemplateItemDto> incomingItemsMap = request
                 .getItems().stream()
                 .collect(Collectors.toMap(
                         MealTemplateRequestDto.TemplateItemDto::getFoodId,
                         item -> item
                 ));
-        removeDeletedItems(template, incomingItemsMap);
+        Set<String> idsToFetch = transactionTemplate.execute(status ->
+                foodsToFetch(findTemplate(templateId, userId), incomingItemsMap));
+        Map<String, FoodDto> foodMap = new HashMap<>(fetchFoods(idsToFetch));
+        for (int attempt = 1; ; attempt++) {
+            Set<String> missing = transactionTemplate.execute(status -> {
+                MealTemplate template = findTemplate(templateId, userId);
+                Set<String> unfetched = foodsToFetch(template, incomingItemsMap);
+                unfetched.removeAll(foodMap.keySet());
+                if (!unfetched.isEmpty()) {
+                    return unfetched;
+                }
+                template.setName(request.getName());
+                removeDeletedItems(template, incomingItemsMap);
+                updateExistingItems(template, incomingItemsMap, foodMap);
+                addNewItems(template, incomingItemsMap, foodMap);
+                mealTemplateRepository.save(template);
+                return unfetched;
+            });
+            if (missing.isEmpty()) {
+                return;
+            }
+            if (attempt == MAX_UPDATE_ATTEMPTS) {
+                throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                        "Template was modified concurrently, please retry");
+            }
+            log.debug("Template id={} changed during update, fetching foods {}",
+                    templateId, missing);
+            foodMap.putAll(fetchFoods(missing));
+        }
+    }
 
+    private Set<String> foodsToFetch(MealTemplate template,
+                                     Map<String, MealTemplateRequestDto
+                                             .TemplateItemDto> incomingItemsMap) {
+        Map<String, UnitType> existingUnits = template.getItems().stream()
+                .collect(Collectors.toMap(MealTemplateItem::getFoodId,
+                        MealTemplateItem::getUnitType));
         Set<String> idsToFetch = new HashSet<>();
-        Set<String> existingIds = template.getItems().stream()
-                .map(MealTemplateItem::getFoodId)
-                .collect(Collectors.toSet());
-        incomingItemsMap.keySet().stream()
-                .filter(id -> !existingIds.contains(id))
-                .forEach(idsToFetch::add);
-        for (MealTemplateItem item : template.getItems()) {
-            var incoming = incomingItemsMap.get(item.getFoodId());
-            if (incoming != null && item.getUnitType() != incoming.getUnitType()) {
-                idsToFetch.add(item.getFoodId());
+        incomingItemsMap.forEach((foodId, incoming) -> {
+            UnitType existingUnit = existingUnits.get(foodId);
+            if (existingUnit == null || existingUnit != incoming.getUnitType()) {
+                idsToFetch.add(foodId);
             }
+        });
+        return idsToFetch;
+    }
+
+    private Map<String, FoodDto> fetchFoods(Set<String> foodIds) {
+        if (foodIds.isEmpty()) {
+            return Map.of();
         }
-        Map<String, FoodDto> foodMap = new HashMap<>();
-        if (!idsToFetch.isEmpty()) {
-            List<FoodDto> foods = foodClientService.getFoodsByIds(new ArrayList<>(idsToFetch));
-            validateAllFoodsFound(new ArrayList<>(idsToFetch), foods);
-            foodMap = foods.stream().collect(Collectors.toMap(FoodDto::getId, f -> f));
-        }
+        List<FoodDto> foods = foodClientService.getFoodsByIds(new ArrayList<>(foodIds));
+        validateAllFoodsFound(new ArrayList<>(foodIds), foods);
+        return foods.stream().collect(Collectors.toMap(FoodDto::getId, f -> f));
+    }
 
-        updateExistingItems(template, incomingItemsMap, foodMap);
-        addNewItems(template, incomingItemsMap, foodMap);
-        mealTemplateRepository.save(template);
+    private MealTemplate findTemplate(Long templateId, Long userId) {
+        return mealTemplateRepository.findByIdAndUserId(templateId, userId)
+                .orElseThrow(() -> new NotFoundException(IntakeErrorCode.INTAKE_NOT_FOUND,
+                        "Template not found"));
     }
 
     private void addNewItems(MealTemplate template,
@@ -160,28 +202,26 @@ public class MealService {
         List<String> newIds = incomingItemsMap.keySet().stream()
                 .filter(id -> !existingIds.contains(id))
                 .toList();
+        List<MealTemplateItem> newItems = new ArrayList<>();
         for (String foodId : newIds) {
             FoodDto food = foodMap.get(foodId);
             var incomingItem = incomingItemsMap.get(food.getId());
             validateUnitSupported(food, incomingItem.getUnitType());
-            MealTemplateItem newItem = createNewItem(template, food, incomingItem);
-            template.getItems().add(newItem);
+            newItems.add(createNewItem(template, food, incomingItem));
         }
+        calculateNutrients(newItems);
+        template.getItems().addAll(newItems);
     }
 
     private MealTemplateItem createNewItem(MealTemplate template, FoodDto food,
                                            MealTemplateRequestDto.TemplateItemDto incomingItem) {
-        NutrientCalculationStrategy strategy = strategyFactory
-                .getStrategy(incomingItem.getUnitType());
-        Nutriments calculatedNutriments = nutrimentsMapper.fromFoodNutriments(food.getNutriments());
-        strategy.calculate(calculatedNutriments, incomingItem.getAmount());
         return MealTemplateItem.builder()
                 .template(template)
                 .foodId(food.getId())
                 .foodName(food.getProductName())
                 .amount(incomingItem.getAmount())
                 .unitType(incomingItem.getUnitType())
-                .nutriments(calculatedNutriments)
+                .nutriments(nutrimentsMapper.fromFoodNutriments(food.getNutriments()))
                 .build();
     }
 
@@ -241,18 +281,6 @@ public class MealService {
         template.getItems().removeIf(item -> !incomingItemsMap.containsKey(item.getFoodId()));
     }
 
-    private void manualEvictUserIntakes(Long userId, LocalDate date) {
-        String key = userId + ":" + date;
-        try {
-            Cache cache = cacheManager.getCache(CacheConstants.USER_INTAKES);
-            if (cache != null) {
-                cache.evict(key);
-            }
-        } catch (Exception e) {
-            log.error("Failed to evict cache for key {}", key, e);
-        }
-    }
-
     private List<Intake> createIntakesFromTemplateItem(List<MealTemplateItem> items,
                                                        LocalDate date, IntakePeriod period,
                                                        Long userId, String batchId) {
@@ -266,6 +294,7 @@ public class MealService {
             intake.setDate(date);
             intake.setIntakePeriod(period != null ? period : IntakePeriod.SNACK);
             intake.setAmount(item.getAmount());
+            intake.setUnitType(item.getUnitType());
             intake.setNutriments(nutrimentsMapper.clone(item.getNutriments()));
             intakes.add(intake);
         }
@@ -292,22 +321,26 @@ public class MealService {
             if (requestItem == null) {
                 continue;
             }
-            int amount = requestItem.getAmount();
-            UnitType unitType = requestItem.getUnitType();
-            NutrientCalculationStrategy strategy = strategyFactory.getStrategy(unitType);
-            Nutriments calculatedNutriments = nutrimentsMapper
-                    .fromFoodNutriments(food.getNutriments());
-            strategy.calculate(calculatedNutriments, amount);
             MealTemplateItem mealTemplateItem = MealTemplateItem.builder()
                     .template(template)
                     .foodId(food.getId())
-                    .amount(amount)
-                    .unitType(unitType)
-                    .nutriments(calculatedNutriments)
+                    .amount(requestItem.getAmount())
+                    .unitType(requestItem.getUnitType())
+                    .nutriments(nutrimentsMapper.fromFoodNutriments(food.getNutriments()))
                     .foodName(food.getProductName())
                     .build();
             meals.add(mealTemplateItem);
         }
+        calculateNutrients(meals);
         return meals;
     }
+
+    private void calculateNutrients(List<MealTemplateItem> items) {
+        items.stream()
+                .collect(Collectors.groupingBy(
+                        item -> strategyFactory.getStrategy(item.getUnitType())))
+                .forEach((strategy, group) -> strategy.calculateAll(
+                        group.stream().map(MealTemplateItem::getNutriments).toList(),
+                        group.stream().mapToInt(MealTemplateItem::getAmount).toArray()));
+    }
 }
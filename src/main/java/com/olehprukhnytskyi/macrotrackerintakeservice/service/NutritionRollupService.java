@@ -0,0 +1,127 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.olehprukhnytskyi.exception.BadRequestException;
+import com.olehprukhnytskyi.exception.error.CommonErrorCode;
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CacheBatch;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutritionRollupDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.DailyNutritionSummaryRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.NutritionRollupView;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.RollupPeriod;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NutritionRollupService {
+    private static final int MAX_RANGE_DAYS = 1098;
+    private static final int AVERAGE_SCALE = 2;
+    private final DailyNutritionSummaryRepository summaryRepository;
+    private final CacheManager cacheManager;
+
+    public List<NutritionRollupDto> findRollups(Long userId, RollupPeriod period,
+                                                LocalDate from, LocalDate to) {
+        validateRange(period, from, to);
+        log.debug("Fetching {} rollups for userId={} from={} to={}", period, userId, from, to);
+        LocalDate today = LocalDate.now();
+        Map<String, LocalDate> closedByKey = new LinkedHashMap<>();
+        List<LocalDate> starts = new ArrayList<>();
+        for (LocalDate start = period.start(from); !start.isAfter(to); start = period.next(start)) {
+            starts.add(start);
+            if (period.isClosed(start, today)) {
+                closedByKey.put(period.cacheKey(userId, start), start);
+            }
+        }
+        Cache cache = cacheManager.getCache(CacheConstants.USER_NUTRITION_ROLLUPS);
+        Map<LocalDate, NutritionRollupDto> rollups = new HashMap<>();
+        CacheBatch.getAll(cache, new ArrayList<>(closedByKey.keySet())).forEach((key, value) ->
+                rollups.put(closedByKey.get(key), (NutritionRollupDto) value));
+        List<LocalDate> missing = starts.stream()
+                .filter(start -> !rollups.containsKey(start))
+                .toList();
+
+        if (!missing.isEmpty()) {
+            Map<LocalDate, NutritionRollupView> rows = load(userId, period, missing.getFirst(),
+                    period.next(missing.getLast()).minusDays(1));
+            Map<String, Object> closedEntries = new HashMap<>();
+            for (LocalDate start : missing) {
+                NutritionRollupDto rollup = toDto(period, start, rows.get(start));
+                rollups.put(start, rollup);
+                if (period.isClosed(start, today)) {
+                    closedEntries.put(period.cacheKey(userId, start), rollup);
+                }
+            }
+            log.debug("Loaded {} uncached {} rollups for userId={}",
+                    missing.size(), period, userId);
+            CacheBatch.putAllIfAbsent(cache, closedEntries);
+        }
+        return starts.stream()
+                .map(rollups::get)
+                .filter(rollup -> rollup.getLoggedDays() > 0)
+                .toList();
+    }
+
+    private Map<LocalDate, NutritionRollupView> load(Long userId, RollupPeriod period,
+                                                     LocalDate from, LocalDate to) {
+        List<NutritionRollupView> rows = switch (period) {
+            case WEEK -> summaryRepository.sumByWeek(userId, from, to);
+            case MONTH -> summaryRepository.sumByMonth(userId, from, to);
+        };
+        return rows.stream().collect(Collectors.toMap(
+                NutritionRollupView::getPeriodStart, Function.identity()));
+    }
+
+    private NutritionRollupDto toDto(RollupPeriod period, LocalDate start,
+                                     NutritionRollupView row) {
+        NutritionRollupDto rollup = NutritionRollupDto.builder()
+                .period(period)
+                .periodStart(start)
+                .periodEnd(period.next(start).minusDays(1))
+                .build();
+        if (row == null) {
+            return rollup;
+        }
+        rollup.setLoggedDays(row.getLoggedDays());
+        rollup.setIntakeCount(row.getIntakeCount());
+        rollup.setCaloriesSum(row.getCaloriesSum());
+        rollup.setCarbohydratesSum(row.getCarbohydratesSum());
+        rollup.setFatSum(row.getFatSum());
+        rollup.setProteinSum(row.getProteinSum());
+        rollup.setCaloriesAvg(scale(row.getCaloriesAvg()));
+        rollup.setCarbohydratesAvg(scale(row.getCarbohydratesAvg()));
+        rollup.setFatAvg(scale(row.getFatAvg()));
+        rollup.setProteinAvg(scale(row.getProteinAvg()));
+        return rollup;
+    }
+
+    private BigDecimal scale(BigDecimal value) {
+        return value != null ? value.setScale(AVERAGE_SCALE, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+
+    private void validateRange(RollupPeriod period, LocalDate from, LocalDate to) {
+        if (period == null || from == null || to == null || to.isBefore(from)) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    "Range must have 'from' on or before 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException(CommonErrorCode.VALIDATION_ERROR,
+                    String.format("Range must not exceed %d days", MAX_RANGE_DAYS));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.OutboxEvent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.producer.KafkaEventPublisher;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "app.outbox.relay.enabled", havingValue = "true",
+        matchIfMissing = true)
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaEventPublisher kafkaEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration retention;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+    private final Timer lag;
+    private final Counter published;
+    private final DistributionSummary batchSizes;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaEventPublisher kafkaEventPublisher,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.topic:intake-events}") String topic,
+                       @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${app.outbox.relay.send-timeout:10s}") Duration sendTimeout,
+                       @Value("${app.outbox.retention:7d}") Duration retention,
+                       @Value("${app.outbox.relay.lease:30s}") Duration lease) {
+        if (lease.compareTo(sendTimeout.multipliedBy(2)) < 0) {
+            throw new IllegalArgumentException("Outbox relay lease " + lease
+                    + " must be at least twice the send timeout " + sendTimeout);
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaEventPublisher = kafkaEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.retention = retention;
+        this.lease = lease;
+        this.lag = Timer.builder("outbox.relay.lag")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.published = meterRegistry.counter("outbox.relay.published");
+        this.batchSizes = meterRegistry.summary("outbox.relay.batch.size");
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval:500ms}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:1h}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(cutoff));
+        log.info("Purged {} processed outbox events older than {}", deleted, cutoff);
+    }
+
+    @PreDestroy
+    public void release() {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.releaseRelayLease(owner, LocalDateTime.now()));
+    }
+
+    public int relayBatch() {
+        if (!acquireLease()) {
+            return 0;
+        }
+        List<OutboxEvent> events = transactionTemplate.execute(status ->
+                outboxEventRepository.findUnprocessed(batchSize));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        Set<String> halted = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<?>> sends = sendInAggregateOrder(events, halted);
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<Long> sent = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            if (halted.contains(event.getAggregateId())) {
+                continue;
+            }
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()),
+                        TimeUnit.NANOSECONDS);
+                sent.add(event.getId());
+                lag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                events.forEach(pending -> halted.add(pending.getAggregateId()));
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                halted.add(event.getAggregateId());
+                log.warn("Failed to relay outbox event id={} type={} of aggregateId={}",
+                        event.getId(), event.getEventType(), event.getAggregateId(), e);
+            }
+        }
+        if (!sent.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markProcessed(sent, LocalDateTime.now()));
+        }
+        published.increment(sent.size());
+        batchSizes.record(sent.size());
+        log.debug("Relayed {} of {} outbox events", sent.size(), events.size());
+        return sent.size();
+    }
+
+    private boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(status ->
+                outboxEventRepository.acquireRelayLease(owner, now, now.plus(lease)));
+        return acquired != null && acquired == 1;
+    }
+
+    private List<CompletableFuture<?>> sendInAggregateOrder(List<OutboxEvent> events,
+                                                            Set<String> halted) {
+        Map<String, CompletableFuture<?>> tails = new HashMap<>();
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            String aggregateId = event.getAggregateId();
+            CompletableFuture<?> previous = tails.get(aggregateId);
+            CompletableFuture<?> send = previous == null
+                    ? send(event)
+                    : previous.thenCompose(result -> halted.contains(aggregateId)
+                            ? CompletableFuture.failedFuture(new IllegalStateException(
+                                    "Relay halted for aggregateId=" + aggregateId))
+                            : send(event));
+            tails.put(aggregateId, send);
+            sends.add(send);
+        }
+        return sends;
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event) {
+        try {
+            return kafkaEventPublisher.publish(topic, event.getAggregateId(),
+                    objectMapper.readTree(event.getPayload()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
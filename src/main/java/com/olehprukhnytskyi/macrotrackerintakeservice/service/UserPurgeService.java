@@ -0,0 +1,126 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.UserPurgeJobConfig;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.purge.IdRangePurgeTasklet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class UserPurgeService {
+    private final Job userPurgeJob;
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final TaskExecutorJobLauncher jobLauncher;
+    private final Duration orphanTimeout;
+
+    public UserPurgeService(@Qualifier("userPurgeJob") Job userPurgeJob,
+                            JobRepository jobRepository,
+                            JobExplorer jobExplorer,
+                            @Value("${app.purge.orphan-timeout:5m}") Duration orphanTimeout) {
+        this.userPurgeJob = userPurgeJob;
+        this.jobRepository = jobRepository;
+        this.jobExplorer = jobExplorer;
+        this.orphanTimeout = orphanTimeout;
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new SyncTaskExecutor());
+    }
+
+    public void launch(Long userId) {
+        JobParameters parameters = new JobParametersBuilder()
+                .addLong(IdRangePurgeTasklet.USER_ID, userId)
+                .toJobParameters();
+        JobExecution execution;
+        try {
+            execution = jobLauncher.run(userPurgeJob, parameters);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("Purge job already completed for userId={}", userId);
+            return;
+        } catch (JobExecutionAlreadyRunningException e) {
+            JobExecution running = jobRepository.getLastJobExecution(
+                    UserPurgeJobConfig.JOB_NAME, parameters);
+            if (running == null || !failIfOrphaned(running)) {
+                throw new IllegalStateException(
+                        "Purge job is still running for userId=" + userId, e);
+            }
+            launch(userId);
+            return;
+        } catch (JobRestartException | JobParametersInvalidException e) {
+            throw new IllegalStateException("Cannot launch purge job for userId=" + userId, e);
+        }
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("Purge job for userId=" + userId
+                    + " finished with status " + execution.getStatus());
+        }
+        log.info("Purged data for userId={} executionId={}", userId, execution.getId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOrphanedExecutions() {
+        for (JobExecution execution
+                : jobExplorer.findRunningJobExecutions(UserPurgeJobConfig.JOB_NAME)) {
+            if (!failIfOrphaned(execution)) {
+                continue;
+            }
+            Long userId = execution.getJobParameters().getLong(IdRangePurgeTasklet.USER_ID);
+            Thread.ofVirtual().name("user-purge-recovery-" + userId).start(() -> {
+                try {
+                    launch(userId);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to resume purge job for userId={}", userId, e);
+                }
+            });
+        }
+    }
+
+    private boolean failIfOrphaned(JobExecution execution) {
+        LocalDateTime lastUpdated = execution.getLastUpdated();
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (step.getLastUpdated() != null
+                    && (lastUpdated == null || step.getLastUpdated().isAfter(lastUpdated))) {
+                lastUpdated = step.getLastUpdated();
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (lastUpdated != null && lastUpdated.isAfter(now.minus(orphanTimeout))) {
+            return false;
+        }
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (step.getStatus().isRunning()) {
+                step.setStatus(BatchStatus.FAILED);
+                step.setExitStatus(ExitStatus.FAILED);
+                step.setEndTime(now);
+                jobRepository.update(step);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED);
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+        log.warn("Marked orphaned purge execution id={} as FAILED, last updated at {}",
+                execution.getId(), lastUpdated);
+        return true;
+    }
+}
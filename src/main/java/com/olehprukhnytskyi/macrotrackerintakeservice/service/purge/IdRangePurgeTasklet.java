@@ -0,0 +1,93 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.purge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@Slf4j
+public class IdRangePurgeTasklet implements Tasklet, ChunkListener, StepExecutionListener {
+    public static final String USER_ID = "userId";
+    public static final String LAST_ID = "lastId";
+
+    private final String table;
+    private final PurgeTarget target;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Counter deletedRows;
+    private final DistributionSummary throughput;
+
+    public IdRangePurgeTasklet(String table, PurgeTarget target, int chunkSize, Duration pause,
+                               MeterRegistry meterRegistry) {
+        this.table = table;
+        this.target = target;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.deletedRows = meterRegistry.counter("user.purge.rows", "table", table);
+        this.throughput = DistributionSummary.builder("user.purge.throughput")
+                .baseUnit("rows/s")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Long userId = (Long) chunkContext.getStepContext().getJobParameters().get(USER_ID);
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution()
+                .getExecutionContext();
+        long lastId = context.getLong(LAST_ID, 0L);
+        Long upToId = target.findChunkUpperId(userId, lastId, chunkSize);
+        if (upToId == null) {
+            return RepeatStatus.FINISHED;
+        }
+        int deleted = target.deleteRange(userId, lastId, upToId);
+        contribution.incrementWriteCount(deleted);
+        context.putLong(LAST_ID, upToId);
+        deletedRows.increment(deleted);
+        log.debug("Purged {} {} rows for userId={} up to id={}", deleted, table, userId, upToId);
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (pause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        long rows = stepExecution.getWriteCount();
+        LocalDateTime start = stepExecution.getStartTime();
+        double seconds = start == null ? 0
+                : Math.max(Duration.between(start, LocalDateTime.now()).toMillis(), 1) / 1000.0;
+        if (rows > 0 && seconds > 0) {
+            throughput.record(rows / seconds);
+        }
+        log.info("Purged {} {} rows for userId={} in {}s", rows, table,
+                stepExecution.getJobParameters().getLong(USER_ID), seconds);
+        return stepExecution.getExitStatus();
+    }
+
+    public interface PurgeTarget {
+        Long findChunkUpperId(Long userId, long afterId, int limit);
+
+        int deleteRange(Long userId, long afterId, long upToId);
+    }
+}
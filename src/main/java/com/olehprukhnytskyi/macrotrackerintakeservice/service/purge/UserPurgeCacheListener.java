@@ -0,0 +1,68 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.purge;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeCacheWriter;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@Slf4j
+@RequiredArgsConstructor
+public class UserPurgeCacheListener implements JobExecutionListener {
+    public static final String PURGED_DATES = "purgedDates";
+
+    private final IntakeRepository intakeRepository;
+    private final IntakeCacheWriter intakeCacheWriter;
+    private final CacheManager cacheManager;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        Long userId = jobExecution.getJobParameters().getLong(IdRangePurgeTasklet.USER_ID);
+        ExecutionContext context = jobExecution.getExecutionContext();
+        Set<LocalDate> dates = parse(context.getString(PURGED_DATES, ""));
+        dates.addAll(intakeRepository.findDistinctDatesByUserId(userId));
+        context.putString(PURGED_DATES, dates.stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(",")));
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+        Long userId = jobExecution.getJobParameters().getLong(IdRangePurgeTasklet.USER_ID);
+        Set<LocalDate> dates = parse(jobExecution.getExecutionContext()
+                .getString(PURGED_DATES, ""));
+        try {
+            intakeCacheWriter.evictDays(Map.of(userId, dates));
+            Cache templates = cacheManager.getCache(CacheConstants.MEAL_TEMPLATES);
+            if (templates != null) {
+                templates.evict(userId);
+            }
+            log.info("Evicted cached data of purged userId={} for {} days", userId, dates.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict caches of purged userId={}", userId, e);
+        }
+    }
+
+    private static Set<LocalDate> parse(String dates) {
+        Set<LocalDate> parsed = new TreeSet<>();
+        if (!dates.isEmpty()) {
+            Arrays.stream(dates.split(",")).map(LocalDate::parse).forEach(parsed::add);
+        }
+        return parsed;
+    }
+}
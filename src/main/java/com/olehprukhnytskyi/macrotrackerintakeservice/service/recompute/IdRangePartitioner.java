@@ -0,0 +1,42 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class IdRangePartitioner implements Partitioner {
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+
+    public IdRangePartitioner(JdbcTemplate jdbcTemplate, String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM " + table);
+        Number min = (Number) bounds.get("min_id");
+        Number max = (Number) bounds.get("max_id");
+        if (min == null || max == null) {
+            return partitions;
+        }
+        long span = max.longValue() - min.longValue() + 1;
+        long size = Math.max((span + gridSize - 1) / gridSize, 1);
+        int index = 0;
+        for (long from = min.longValue(); from <= max.longValue(); from += size) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, from);
+            context.putLong(MAX_ID, Math.min(from + size - 1, max.longValue()));
+            partitions.put("partition" + index++, context);
+        }
+        return partitions;
+    }
+}
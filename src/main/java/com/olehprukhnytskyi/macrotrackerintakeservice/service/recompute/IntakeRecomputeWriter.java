@@ -0,0 +1,209 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.NutrimentsMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.DailySummaryService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.FoodClientService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeOutboxWriter;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.NutrientStrategyFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+public class IntakeRecomputeWriter implements ItemWriter<Intake>, StepExecutionListener {
+    public static final String CHANGED = "changed";
+    public static final String TOUCHED_DAYS = "touchedDays";
+    public static final String ALL_DAYS_TOUCHED = "allDaysTouched";
+
+    private static final String UPDATE_SQL = RecomputeColumns.updateSql("intake", true);
+
+    private final NutrientStrategyFactory strategyFactory;
+    private final NutrimentsMapper nutrimentsMapper;
+    private final FoodClientService foodClientService;
+    private final DailySummaryService dailySummaryService;
+    private final IntakeOutboxWriter intakeOutboxWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Options options;
+    private final Counter changedRows;
+    private final DistributionSummary throughput;
+    private StepExecution stepExecution;
+    private Set<String> touchedDays;
+
+    public IntakeRecomputeWriter(NutrientStrategyFactory strategyFactory,
+                                 NutrimentsMapper nutrimentsMapper,
+                                 FoodClientService foodClientService,
+                                 DailySummaryService dailySummaryService,
+                                 IntakeOutboxWriter intakeOutboxWriter,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 Options options,
+                                 MeterRegistry meterRegistry) {
+        this.strategyFactory = strategyFactory;
+        this.nutrimentsMapper = nutrimentsMapper;
+        this.foodClientService = foodClientService;
+        this.dailySummaryService = dailySummaryService;
+        this.intakeOutboxWriter = intakeOutboxWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.options = options;
+        String mode = options.dryRun() ? "dry-run" : "write";
+        this.changedRows = meterRegistry.counter("intake.recompute.changed", "mode", mode);
+        this.throughput = DistributionSummary.builder("intake.recompute.throughput")
+                .baseUnit("rows/s")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        Object tracked = stepExecution.getExecutionContext().get(TOUCHED_DAYS);
+        this.touchedDays = tracked != null
+                ? new LinkedHashSet<>((List<String>) tracked) : new LinkedHashSet<>();
+    }
+
+    @Override
+    public void write(Chunk<? extends Intake> chunk) {
+        List<? extends Intake> intakes = chunk.getItems();
+        Map<Long, Nutriments> before = new HashMap<>();
+        for (Intake intake : intakes) {
+            before.put(intake.getId(), nutrimentsMapper.clone(intake.getNutriments()));
+        }
+        if (options.refreshFoods()) {
+            refreshBases(intakes);
+        }
+        intakes.stream()
+                .collect(Collectors.groupingBy(
+                        intake -> strategyFactory.getStrategy(intake.getUnitType())))
+                .forEach((strategy, group) -> strategy.calculateAll(
+                        group.stream().map(Intake::getNutriments).toList(),
+                        group.stream().mapToInt(Intake::getAmount).toArray()));
+
+        List<Intake> changed = new ArrayList<>();
+        for (Intake intake : intakes) {
+            if (!RecomputeColumns.sameValues(before.get(intake.getId()), intake.getNutriments())) {
+                changed.add(intake);
+            }
+        }
+        if (options.dryRun()) {
+            count(changed.size());
+            changed.forEach(intake -> log.info("Recompute diff intake id={} userId={} date={}: {}",
+                    intake.getId(), intake.getUserId(), intake.getDate(),
+                    RecomputeColumns.diff(before.get(intake.getId()), intake.getNutriments())));
+            return;
+        }
+        List<Intake> applied = changed.isEmpty()
+                ? List.of() : transactionTemplate.execute(status -> apply(changed, before));
+        count(applied.size());
+        if (applied.size() < changed.size()) {
+            log.info("Skipped {} intakes modified concurrently in {}",
+                    changed.size() - applied.size(), stepExecution.getStepName());
+        }
+        track(applied, stepExecution.getExecutionContext());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        long rows = stepExecution.getReadCount();
+        LocalDateTime start = stepExecution.getStartTime();
+        double seconds = start == null ? 0
+                : Math.max(Duration.between(start, LocalDateTime.now()).toMillis(), 1) / 1000.0;
+        if (rows > 0 && seconds > 0) {
+            throughput.record(rows / seconds);
+        }
+        log.info("Recomputed {} intakes in {} ({} changed, dryRun={}) in {}s, {} rows/s",
+                rows, stepExecution.getStepName(),
+                stepExecution.getExecutionContext().getLong(CHANGED, 0L), options.dryRun(),
+                seconds, seconds > 0 ? Math.round(rows / seconds) : 0);
+        return stepExecution.getExitStatus();
+    }
+
+    private void refreshBases(List<? extends Intake> intakes) {
+        List<String> foodIds = intakes.stream()
+                .map(Intake::getFoodId)
+                .distinct()
+                .toList();
+        Map<String, FoodDto> foods = foodClientService.getFoodsByIds(foodIds).stream()
+                .collect(Collectors.toMap(FoodDto::getId, Function.identity(),
+                        (first, second) -> first));
+        for (Intake intake : intakes) {
+            FoodDto food = foods.get(intake.getFoodId());
+            if (food != null && food.getNutriments() != null) {
+                intake.setNutriments(nutrimentsMapper.fromFoodNutriments(food.getNutriments()));
+            }
+        }
+    }
+
+    private List<Intake> apply(List<Intake> changed, Map<Long, Nutriments> before) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, changed, changed.size(),
+                (statement, intake) -> RecomputeColumns.bindUpdate(statement, intake.getId(),
+                        intake.getAmount(), intake.getUnitType(), intake.getNutriments(),
+                        before.get(intake.getId())));
+        List<Intake> applied = RecomputeColumns.applied(changed, counts);
+        if (applied.isEmpty()) {
+            return applied;
+        }
+        List<DailySummaryService.Delta> deltas = new ArrayList<>(applied.size() * 2);
+        for (Intake intake : applied) {
+            deltas.add(DailySummaryService.Delta.removed(Intake.builder()
+                    .userId(intake.getUserId())
+                    .date(intake.getDate())
+                    .intakePeriod(intake.getIntakePeriod())
+                    .nutriments(before.get(intake.getId()))
+                    .build()));
+            deltas.add(DailySummaryService.Delta.added(intake));
+        }
+        dailySummaryService.apply(deltas);
+        intakeOutboxWriter.updated(applied);
+        return applied;
+    }
+
+    private void count(int changed) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(CHANGED, context.getLong(CHANGED, 0L) + changed);
+        changedRows.increment(changed);
+    }
+
+    private void track(List<Intake> changed, ExecutionContext context) {
+        if (context.containsKey(ALL_DAYS_TOUCHED)) {
+            return;
+        }
+        changed.forEach(intake -> touchedDays.add(intake.getUserId() + ":" + intake.getDate()));
+        if (touchedDays.size() > options.maxTrackedDays()) {
+            log.info("More than {} user-days touched in {}, caches will be cleared in full",
+                    options.maxTrackedDays(), stepExecution.getStepName());
+            touchedDays.clear();
+            context.remove(TOUCHED_DAYS);
+            context.put(ALL_DAYS_TOUCHED, true);
+            return;
+        }
+        context.put(TOUCHED_DAYS, new ArrayList<>(touchedDays));
+    }
+
+    public record Options(boolean dryRun, boolean refreshFoods, int maxTrackedDays) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import org.springframework.jdbc.core.RowMapper;
+
+public class IntakeRowMapper implements RowMapper<Intake> {
+    public static final String COLUMNS = """
+            id, meal_group_id, user_id, food_id, food_name, date, amount, unit_type,
+            intake_period, """ + RecomputeColumns.NUTRIENT_COLUMNS;
+
+    @Override
+    public Intake mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return Intake.builder()
+                .id(rs.getLong("id"))
+                .mealGroupId(rs.getString("meal_group_id"))
+                .userId(rs.getLong("user_id"))
+                .foodId(rs.getString("food_id"))
+                .foodName(rs.getString("food_name"))
+                .date(rs.getObject("date", LocalDate.class))
+                .amount(rs.getInt("amount"))
+                .unitType(UnitType.valueOf(rs.getString("unit_type")))
+                .intakePeriod(IntakePeriod.valueOf(rs.getString("intake_period")))
+                .nutriments(RecomputeColumns.read(rs))
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.NutrimentsMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.FoodClientService;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.NutrientStrategyFactory;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+public class MealTemplateItemRecomputeWriter
+        implements ItemWriter<MealTemplateItem>, StepExecutionListener {
+    private static final String UPDATE_SQL =
+            RecomputeColumns.updateSql("meal_template_item", false);
+
+    private final NutrientStrategyFactory strategyFactory;
+    private final NutrimentsMapper nutrimentsMapper;
+    private final FoodClientService foodClientService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final IntakeRecomputeWriter.Options options;
+    private StepExecution stepExecution;
+
+    public MealTemplateItemRecomputeWriter(NutrientStrategyFactory strategyFactory,
+                                           NutrimentsMapper nutrimentsMapper,
+                                           FoodClientService foodClientService,
+                                           JdbcTemplate jdbcTemplate,
+                                           TransactionTemplate transactionTemplate,
+                                           CacheManager cacheManager,
+                                           IntakeRecomputeWriter.Options options) {
+        this.strategyFactory = strategyFactory;
+        this.nutrimentsMapper = nutrimentsMapper;
+        this.foodClientService = foodClientService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.options = options;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public void write(Chunk<? extends MealTemplateItem> chunk) {
+        List<? extends MealTemplateItem> items = chunk.getItems();
+        Map<Long, Nutriments> before = new HashMap<>();
+        for (MealTemplateItem item : items) {
+            before.put(item.getId(), nutrimentsMapper.clone(item.getNutriments()));
+        }
+        if (options.refreshFoods()) {
+            refreshBases(items);
+        }
+        items.stream()
+                .collect(Collectors.groupingBy(
+                        item -> strategyFactory.getStrategy(item.getUnitType())))
+                .forEach((strategy, group) -> strategy.calculateAll(
+                        group.stream().map(MealTemplateItem::getNutriments).toList(),
+                        group.stream().mapToInt(MealTemplateItem::getAmount).toArray()));
+
+        List<MealTemplateItem> changed = new ArrayList<>();
+        for (MealTemplateItem item : items) {
+            if (!RecomputeColumns.sameValues(before.get(item.getId()), item.getNutriments())) {
+                changed.add(item);
+            }
+        }
+        if (options.dryRun()) {
+            count(changed.size());
+            changed.forEach(item -> log.info("Recompute diff template item id={} templateId={}: {}",
+                    item.getId(), item.getTemplate().getId(),
+                    RecomputeColumns.diff(before.get(item.getId()), item.getNutriments())));
+            return;
+        }
+        if (changed.isEmpty()) {
+            count(0);
+            return;
+        }
+        List<MealTemplateItem> applied = transactionTemplate.execute(status ->
+                RecomputeColumns.applied(changed, jdbcTemplate.batchUpdate(UPDATE_SQL, changed,
+                        changed.size(), (statement, item) -> RecomputeColumns.bindUpdate(
+                                statement, item.getId(), item.getAmount(), item.getUnitType(),
+                                item.getNutriments(), before.get(item.getId())))));
+        count(applied.size());
+        if (applied.size() < changed.size()) {
+            log.info("Skipped {} template items modified concurrently",
+                    changed.size() - applied.size());
+        }
+        Cache templates = cacheManager.getCache(CacheConstants.MEAL_TEMPLATES);
+        if (templates != null) {
+            applied.stream()
+                    .map(item -> item.getTemplate().getUserId())
+                    .distinct()
+                    .forEach(templates::evict);
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        log.info("Recomputed {} meal template items ({} changed, dryRun={})",
+                stepExecution.getReadCount(),
+                stepExecution.getExecutionContext().getLong(IntakeRecomputeWriter.CHANGED, 0L),
+                options.dryRun());
+        return stepExecution.getExitStatus();
+    }
+
+    private void refreshBases(List<? extends MealTemplateItem> items) {
+        List<String> foodIds = items.stream()
+                .map(MealTemplateItem::getFoodId)
+                .distinct()
+                .toList();
+        Map<String, FoodDto> foods = foodClientService.getFoodsByIds(foodIds).stream()
+                .collect(Collectors.toMap(FoodDto::getId, Function.identity(),
+                        (first, second) -> first));
+        for (MealTemplateItem item : items) {
+            FoodDto food = foods.get(item.getFoodId());
+            if (food != null && food.getNutriments() != null) {
+                item.setNutriments(nutrimentsMapper.fromFoodNutriments(food.getNutriments()));
+            }
+        }
+    }
+
+    private void count(int changed) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(IntakeRecomputeWriter.CHANGED,
+                context.getLong(IntakeRecomputeWriter.CHANGED, 0L) + changed);
+    }
+}
@@ -0,0 +1,34 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplate;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
+import com.olehprukhnytskyi.util.UnitType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.springframework.jdbc.core.RowMapper;
+
+public class MealTemplateItemRowMapper implements RowMapper<MealTemplateItem> {
+    public static final String COLUMNS = """
+            id, template_id, user_id, food_id, food_name, amount, unit_type, \
+            """ + RecomputeColumns.NUTRIENT_COLUMNS;
+    public static final String FROM = """
+            FROM (SELECT item.*, template.user_id
+                  FROM meal_template_item item
+                  JOIN meal_template template ON template.id = item.template_id) items""";
+
+    @Override
+    public MealTemplateItem mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return MealTemplateItem.builder()
+                .id(rs.getLong("id"))
+                .template(MealTemplate.builder()
+                        .id(rs.getLong("template_id"))
+                        .userId(rs.getLong("user_id"))
+                        .build())
+                .foodId(rs.getString("food_id"))
+                .foodName(rs.getString("food_name"))
+                .amount(rs.getInt("amount"))
+                .unitType(UnitType.valueOf(rs.getString("unit_type")))
+                .nutriments(RecomputeColumns.read(rs))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.IntakeCacheWriter;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@Slf4j
+public class RecomputeCacheInvalidationTasklet implements Tasklet {
+    public static final String ROWS = "rows";
+    public static final String ROWS_PER_SECOND = "rowsPerSecond";
+
+    private final JobExplorer jobExplorer;
+    private final IntakeCacheWriter intakeCacheWriter;
+    private final String workerStepName;
+    private final boolean dryRun;
+
+    public RecomputeCacheInvalidationTasklet(JobExplorer jobExplorer,
+                                             IntakeCacheWriter intakeCacheWriter,
+                                             String workerStepName, boolean dryRun) {
+        this.jobExplorer = jobExplorer;
+        this.intakeCacheWriter = intakeCacheWriter;
+        this.workerStepName = workerStepName;
+        this.dryRun = dryRun;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        StepExecution current = chunkContext.getStepContext().getStepExecution();
+        JobExecution jobExecution = current.getJobExecution();
+        List<StepExecution> workers = jobExplorer
+                .getJobExecutions(jobExecution.getJobInstance()).stream()
+                .flatMap(execution -> execution.getStepExecutions().stream())
+                .filter(step -> step.getStepName().startsWith(workerStepName + ":"))
+                .filter(step -> step.getStatus() == BatchStatus.COMPLETED)
+                .toList();
+
+        long rows = 0;
+        long rowsThisRun = 0;
+        long changed = 0;
+        boolean allDays = false;
+        Set<String> touchedDays = new LinkedHashSet<>();
+        for (StepExecution worker : workers) {
+            ExecutionContext context = worker.getExecutionContext();
+            rows += worker.getReadCount();
+            if (worker.getJobExecutionId().equals(jobExecution.getId())) {
+                rowsThisRun += worker.getReadCount();
+            }
+            changed += context.getLong(IntakeRecomputeWriter.CHANGED, 0L);
+            allDays |= context.containsKey(IntakeRecomputeWriter.ALL_DAYS_TOUCHED);
+            Object days = context.get(IntakeRecomputeWriter.TOUCHED_DAYS);
+            if (days != null) {
+                touchedDays.addAll((List<String>) days);
+            }
+        }
+
+        if (!dryRun && allDays) {
+            intakeCacheWriter.evictAllDays();
+            log.info("Cleared intake day caches after recompute");
+        } else if (!dryRun && !touchedDays.isEmpty()) {
+            intakeCacheWriter.evictDays(toUserDays(touchedDays));
+            log.info("Evicted {} user-day cache entries after recompute", touchedDays.size());
+        }
+
+        LocalDateTime start = jobExecution.getStartTime();
+        double seconds = start == null ? 0
+                : Math.max(Duration.between(start, LocalDateTime.now()).toMillis(), 1) / 1000.0;
+        long rowsPerSecond = seconds > 0 ? Math.round(rowsThisRun / seconds) : 0;
+        current.getExecutionContext().putLong(ROWS, rows);
+        current.getExecutionContext().putLong(IntakeRecomputeWriter.CHANGED, changed);
+        current.getExecutionContext().putLong(ROWS_PER_SECOND, rowsPerSecond);
+        log.info("Intake recompute finished: {} rows, {} changed, dryRun={}, {} rows/s",
+                rows, changed, dryRun, rowsPerSecond);
+        return RepeatStatus.FINISHED;
+    }
+
+    private Map<Long, Set<LocalDate>> toUserDays(Set<String> keys) {
+        Map<Long, Set<LocalDate>> days = new HashMap<>();
+        for (String key : keys) {
+            int separator = key.indexOf(':');
+            days.computeIfAbsent(Long.valueOf(key.substring(0, separator)),
+                    userId -> new LinkedHashSet<>())
+                    .add(LocalDate.parse(key.substring(separator + 1)));
+        }
+        return days;
+    }
+}
@@ -0,0 +1,135 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class RecomputeColumns {
+    static final String NUTRIENT_COLUMNS = """
+            calories_per_100, carbohydrates_per_100, fat_per_100, protein_per_100,
+            calories_per_piece, carbohydrates_per_piece, fat_per_piece, protein_per_piece,
+            calories_total, carbohydrates_total, fat_total, protein_total""";
+
+    private static final String UPDATE_SQL = """
+            UPDATE %s SET%s
+                calories_per_100 = ?, carbohydrates_per_100 = ?,
+                fat_per_100 = ?, protein_per_100 = ?,
+                calories_per_piece = ?, carbohydrates_per_piece = ?,
+                fat_per_piece = ?, protein_per_piece = ?,
+                calories_total = ?, carbohydrates_total = ?,
+                fat_total = ?, protein_total = ?
+            WHERE id = ? AND amount = ? AND unit_type = ?
+                AND calories_per_100 IS NOT DISTINCT FROM ?
+                AND carbohydrates_per_100 IS NOT DISTINCT FROM ?
+                AND fat_per_100 IS NOT DISTINCT FROM ?
+                AND protein_per_100 IS NOT DISTINCT FROM ?
+                AND calories_per_piece IS NOT DISTINCT FROM ?
+                AND carbohydrates_per_piece IS NOT DISTINCT FROM ?
+                AND fat_per_piece IS NOT DISTINCT FROM ?
+                AND protein_per_piece IS NOT DISTINCT FROM ?
+                AND calories_total IS NOT DISTINCT FROM ?
+                AND carbohydrates_total IS NOT DISTINCT FROM ?
+                AND fat_total IS NOT DISTINCT FROM ?
+                AND protein_total IS NOT DISTINCT FROM ?
+            """;
+    private static final List<Function<Nutriments, BigDecimal>> FIELDS = List.of(
+            Nutriments::getCaloriesPer100,
+            Nutriments::getCarbohydratesPer100,
+            Nutriments::getFatPer100,
+            Nutriments::getProteinPer100,
+            Nutriments::getCaloriesPerPiece,
+            Nutriments::getCarbohydratesPerPiece,
+            Nutriments::getFatPerPiece,
+            Nutriments::getProteinPerPiece,
+            Nutriments::getCalories,
+            Nutriments::getCarbohydrates,
+            Nutriments::getFat,
+            Nutriments::getProtein);
+
+    private RecomputeColumns() {
+    }
+
+    static String updateSql(String table, boolean versioned) {
+        return UPDATE_SQL.formatted(table, versioned ? " version = version + 1," : "");
+    }
+
+    static Nutriments read(ResultSet rs) throws SQLException {
+        return Nutriments.builder()
+                .caloriesPer100(rs.getBigDecimal("calories_per_100"))
+                .carbohydratesPer100(rs.getBigDecimal("carbohydrates_per_100"))
+                .fatPer100(rs.getBigDecimal("fat_per_100"))
+                .proteinPer100(rs.getBigDecimal("protein_per_100"))
+                .caloriesPerPiece(rs.getBigDecimal("calories_per_piece"))
+                .carbohydratesPerPiece(rs.getBigDecimal("carbohydrates_per_piece"))
+                .fatPerPiece(rs.getBigDecimal("fat_per_piece"))
+                .proteinPerPiece(rs.getBigDecimal("protein_per_piece"))
+                .calories(rs.getBigDecimal("calories_total"))
+                .carbohydrates(rs.getBigDecimal("carbohydrates_total"))
+                .fat(rs.getBigDecimal("fat_total"))
+                .protein(rs.getBigDecimal("protein_total"))
+                .build();
+    }
+
+    static void bindUpdate(PreparedStatement statement, long id, int amount, UnitType unitType,
+                           Nutriments nutriments, Nutriments stale) throws SQLException {
+        int index = 1;
+        for (Function<Nutriments, BigDecimal> field : FIELDS) {
+            BigDecimal value = field.apply(nutriments);
+            statement.setBigDecimal(index++, value != null ? value : BigDecimal.ZERO);
+        }
+        statement.setLong(index++, id);
+        statement.setInt(index++, amount);
+        statement.setString(index++, unitType.name());
+        for (Function<Nutriments, BigDecimal> field : FIELDS) {
+            BigDecimal value = field.apply(stale);
+            if (value != null) {
+                statement.setBigDecimal(index++, value);
+            } else {
+                statement.setNull(index++, Types.NUMERIC);
+            }
+        }
+    }
+
+    static <T> List<T> applied(List<T> rows, int[][] counts) {
+        List<T> applied = new ArrayList<>(rows.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 1) {
+                    applied.add(rows.get(index));
+                }
+                index++;
+            }
+        }
+        return applied;
+    }
+
+    static boolean sameValues(Nutriments before, Nutriments after) {
+        for (Function<Nutriments, BigDecimal> field : FIELDS) {
+            BigDecimal left = field.apply(before);
+            BigDecimal right = field.apply(after);
+            if (left == null || right == null
+                    ? !Objects.equals(left, right) : left.compareTo(right) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String diff(Nutriments before, Nutriments after) {
+        return String.format("calories %s -> %s, carbohydrates %s -> %s, fat %s -> %s, "
+                        + "protein %s -> %s",
+                before.getCalories(), after.getCalories(),
+                before.getCarbohydrates(), after.getCarbohydrates(),
+                before.getFat(), after.getFat(),
+                before.getProtein(), after.getProtein());
+    }
+}
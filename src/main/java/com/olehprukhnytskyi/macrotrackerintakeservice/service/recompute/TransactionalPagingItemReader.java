@@ -0,0 +1,17 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute;
+
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class TransactionalPagingItemReader<T> extends JdbcPagingItemReader<T> {
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionalPagingItemReader(TransactionTemplate transactionTemplate) {
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    protected void doReadPage() {
+        transactionTemplate.executeWithoutResult(status -> super.doReadPage());
+    }
+}
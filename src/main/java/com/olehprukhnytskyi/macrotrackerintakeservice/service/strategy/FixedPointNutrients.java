@@ -0,0 +1,91 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class FixedPointNutrients {
+    public static final int SCALE = 6;
+    public static final int RESULT_SCALE = 2;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L
+    };
+    private static final long ONE = POWERS_OF_TEN[SCALE];
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private FixedPointNutrients() {
+    }
+
+    public static boolean isRepresentable(BigDecimal value) {
+        return value.scale() >= 0 && value.scale() <= SCALE
+                && value.precision() - value.scale() <= 12;
+    }
+
+    public static long toFixed(BigDecimal value) {
+        return Math.multiplyExact(value.unscaledValue().longValueExact(),
+                POWERS_OF_TEN[SCALE - value.scale()]);
+    }
+
+    public static long perHundredGrams(long per100, int amount) {
+        return divideHalfUp(Math.multiplyExact(per100, amount), ONE);
+    }
+
+    public static long perPieces(long perPiece, int amount) {
+        return Math.multiplyExact(perPiece, amount);
+    }
+
+    public static void perHundredGrams(long[] per100, int[] amounts, long[] totals, int length) {
+        for (int i = 0; i < length; i++) {
+            totals[i] = divideHalfUp(Math.multiplyExact(per100[i], amounts[i]), ONE);
+        }
+    }
+
+    public static void perPieces(long[] perPiece, int[] amounts, long[] totals, int length) {
+        for (int i = 0; i < length; i++) {
+            totals[i] = Math.multiplyExact(perPiece[i], amounts[i]);
+        }
+    }
+
+    public static BigDecimal toBigDecimal(long fixed, int scale) {
+        return BigDecimal.valueOf(fixed / POWERS_OF_TEN[SCALE - scale], scale);
+    }
+
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    public static BigDecimal grams(BigDecimal per100, int amount) {
+        if (per100 == null) {
+            return BigDecimal.ZERO;
+        }
+        if (isRepresentable(per100)) {
+            try {
+                return BigDecimal.valueOf(perHundredGrams(toFixed(per100), amount), RESULT_SCALE);
+            } catch (ArithmeticException e) {
+                return gramsExact(per100, amount);
+            }
+        }
+        return gramsExact(per100, amount);
+    }
+
+    public static BigDecimal pieces(BigDecimal perPiece, int amount) {
+        if (isRepresentable(perPiece)) {
+            try {
+                return toBigDecimal(perPieces(toFixed(perPiece), amount), perPiece.scale());
+            } catch (ArithmeticException e) {
+                return perPiece.multiply(BigDecimal.valueOf(amount));
+            }
+        }
+        return perPiece.multiply(BigDecimal.valueOf(amount));
+    }
+
+    private static BigDecimal gramsExact(BigDecimal per100, int amount) {
+        return per100.multiply(BigDecimal.valueOf(amount))
+                .divide(HUNDRED, RESULT_SCALE, RoundingMode.HALF_UP);
+    }
+}
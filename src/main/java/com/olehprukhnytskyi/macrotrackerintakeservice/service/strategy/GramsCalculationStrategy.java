@@ -4,7 +4,7 @@ import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
 import com.olehprukhnytskyi.util.UnitType;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,6 +22,22 @@ public class GramsCalculationStrategy implements NutrientCalculationStrategy {
         base.setProtein(calculateValue(base.getProteinPer100(), amount));
     }
 
+    @Override
+    public void calculateAll(List<Nutriments> bases, int[] amounts) {
+        NutrientColumns.calculate(bases, amounts, NutrientColumns.PER_100,
+                this::calculateAll, this::toTotal, this::calculate);
+    }
+
+    @Override
+    public void calculateAll(long[] bases, int[] amounts, long[] totals, int length) {
+        FixedPointNutrients.perHundredGrams(bases, amounts, totals, length);
+    }
+
+    @Override
+    public BigDecimal toTotal(long total, int baseScale) {
+        return BigDecimal.valueOf(total, FixedPointNutrients.RESULT_SCALE);
+    }
+
     @Override
     public void recalculateItem(MealTemplateItem item, int newAmount) {
         Nutriments n = item.getNutriments();
@@ -33,10 +49,6 @@ public class GramsCalculationStrategy implements NutrientCalculationStrategy {
     }
 
     private BigDecimal calculateValue(BigDecimal per100, int amount) {
-        if (per100 == null) {
-            return BigDecimal.ZERO;
-        }
-        return per100.multiply(BigDecimal.valueOf(amount))
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return FixedPointNutrients.grams(per100, amount);
     }
 }
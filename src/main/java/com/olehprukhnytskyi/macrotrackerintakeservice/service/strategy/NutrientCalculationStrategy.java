@@ -3,10 +3,18 @@ package com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
 import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.util.List;
 
 public interface NutrientCalculationStrategy {
     void calculate(Nutriments baseNutriments, int amount);
 
+    void calculateAll(List<Nutriments> bases, int[] amounts);
+
+    void calculateAll(long[] bases, int[] amounts, long[] totals, int length);
+
+    BigDecimal toTotal(long total, int baseScale);
+
     void recalculateItem(MealTemplateItem item, int newAmount);
 
     UnitType getSupportedType();
@@ -0,0 +1,111 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+final class NutrientColumns {
+    static final List<Function<Nutriments, BigDecimal>> PER_100 = List.of(
+            Nutriments::getCaloriesPer100,
+            Nutriments::getCarbohydratesPer100,
+            Nutriments::getFatPer100,
+            Nutriments::getProteinPer100);
+    static final List<Function<Nutriments, BigDecimal>> PER_PIECE = List.of(
+            Nutriments::getCaloriesPerPiece,
+            Nutriments::getCarbohydratesPerPiece,
+            Nutriments::getFatPerPiece,
+            Nutriments::getProteinPerPiece);
+
+    private static final int FIELDS = 4;
+
+    private final List<Nutriments> rows;
+    private final int[] rowAmounts;
+    private final int[] columnRows;
+    private final long[] bases;
+    private final int[] amounts;
+    private final int[] scales;
+    private final long[] totals;
+    private int size;
+
+    private NutrientColumns(List<Nutriments> rows, int[] rowAmounts,
+                            List<Function<Nutriments, BigDecimal>> baseGetters) {
+        if (rows.size() != rowAmounts.length) {
+            throw new IllegalArgumentException("Expected " + rows.size()
+                    + " amounts but got " + rowAmounts.length);
+        }
+        this.rows = rows;
+        this.rowAmounts = rowAmounts;
+        this.columnRows = new int[rows.size()];
+        this.bases = new long[rows.size() * FIELDS];
+        this.amounts = new int[rows.size() * FIELDS];
+        this.scales = new int[rows.size() * FIELDS];
+        this.totals = new long[rows.size() * FIELDS];
+        for (int row = 0; row < rows.size(); row++) {
+            add(row, baseGetters);
+        }
+    }
+
+    static void calculate(List<Nutriments> rows, int[] amounts,
+                          List<Function<Nutriments, BigDecimal>> baseGetters,
+                          Kernel kernel, TotalConverter converter,
+                          ObjIntConsumer<Nutriments> single) {
+        NutrientColumns columns = new NutrientColumns(rows, amounts, baseGetters);
+        try {
+            kernel.apply(columns.bases, columns.amounts, columns.totals,
+                    columns.size * FIELDS);
+        } catch (ArithmeticException e) {
+            for (int row = 0; row < rows.size(); row++) {
+                single.accept(rows.get(row), amounts[row]);
+            }
+            return;
+        }
+        columns.write(converter);
+        int next = 0;
+        for (int row = 0; row < rows.size(); row++) {
+            if (next < columns.size && columns.columnRows[next] == row) {
+                next++;
+            } else {
+                single.accept(rows.get(row), amounts[row]);
+            }
+        }
+    }
+
+    private void add(int row, List<Function<Nutriments, BigDecimal>> baseGetters) {
+        Nutriments nutriments = rows.get(row);
+        int offset = size * FIELDS;
+        for (int field = 0; field < FIELDS; field++) {
+            BigDecimal base = baseGetters.get(field).apply(nutriments);
+            if (base == null || !FixedPointNutrients.isRepresentable(base)) {
+                return;
+            }
+            bases[offset + field] = FixedPointNutrients.toFixed(base);
+            amounts[offset + field] = rowAmounts[row];
+            scales[offset + field] = base.scale();
+        }
+        columnRows[size++] = row;
+    }
+
+    private void write(TotalConverter converter) {
+        for (int i = 0; i < size; i++) {
+            Nutriments nutriments = rows.get(columnRows[i]);
+            int offset = i * FIELDS;
+            nutriments.setCalories(converter.convert(totals[offset], scales[offset]));
+            nutriments.setCarbohydrates(
+                    converter.convert(totals[offset + 1], scales[offset + 1]));
+            nutriments.setFat(converter.convert(totals[offset + 2], scales[offset + 2]));
+            nutriments.setProtein(converter.convert(totals[offset + 3], scales[offset + 3]));
+        }
+    }
+
+    @FunctionalInterface
+    interface Kernel {
+        void apply(long[] bases, int[] amounts, long[] totals, int length);
+    }
+
+    @FunctionalInterface
+    interface TotalConverter {
+        BigDecimal convert(long total, int baseScale);
+    }
+}
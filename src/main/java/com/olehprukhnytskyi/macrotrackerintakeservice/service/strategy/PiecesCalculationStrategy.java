@@ -4,6 +4,7 @@ import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
 import com.olehprukhnytskyi.util.UnitType;
 import java.math.BigDecimal;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,21 +16,35 @@ public class PiecesCalculationStrategy implements NutrientCalculationStrategy {
 
     @Override
     public void calculate(Nutriments base, int amount) {
-        BigDecimal multiplier = BigDecimal.valueOf(amount);
-        base.setCalories(base.getCaloriesPerPiece().multiply(multiplier));
-        base.setCarbohydrates(base.getCarbohydratesPerPiece().multiply(multiplier));
-        base.setFat(base.getFatPerPiece().multiply(multiplier));
-        base.setProtein(base.getProteinPerPiece().multiply(multiplier));
+        base.setCalories(FixedPointNutrients.pieces(base.getCaloriesPerPiece(), amount));
+        base.setCarbohydrates(FixedPointNutrients.pieces(base.getCarbohydratesPerPiece(), amount));
+        base.setFat(FixedPointNutrients.pieces(base.getFatPerPiece(), amount));
+        base.setProtein(FixedPointNutrients.pieces(base.getProteinPerPiece(), amount));
+    }
+
+    @Override
+    public void calculateAll(List<Nutriments> bases, int[] amounts) {
+        NutrientColumns.calculate(bases, amounts, NutrientColumns.PER_PIECE,
+                this::calculateAll, this::toTotal, this::calculate);
+    }
+
+    @Override
+    public void calculateAll(long[] bases, int[] amounts, long[] totals, int length) {
+        FixedPointNutrients.perPieces(bases, amounts, totals, length);
+    }
+
+    @Override
+    public BigDecimal toTotal(long total, int baseScale) {
+        return FixedPointNutrients.toBigDecimal(total, baseScale);
     }
 
     @Override
     public void recalculateItem(MealTemplateItem item, int newAmount) {
         Nutriments n = item.getNutriments();
-        BigDecimal multiplier = BigDecimal.valueOf(newAmount);
-        n.setCalories(n.getCaloriesPer100().multiply(multiplier));
-        n.setProtein(n.getProteinPer100().multiply(multiplier));
-        n.setFat(n.getFatPer100().multiply(multiplier));
-        n.setCarbohydrates(n.getCarbohydratesPer100().multiply(multiplier));
+        n.setCalories(FixedPointNutrients.pieces(n.getCaloriesPerPiece(), newAmount));
+        n.setProtein(FixedPointNutrients.pieces(n.getProteinPerPiece(), newAmount));
+        n.setFat(FixedPointNutrients.pieces(n.getFatPerPiece(), newAmount));
+        n.setCarbohydrates(FixedPointNutrients.pieces(n.getCarbohydratesPerPiece(), newAmount));
         item.setAmount(newAmount);
     }
 }
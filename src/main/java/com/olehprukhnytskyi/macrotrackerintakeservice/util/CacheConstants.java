@@ -3,6 +3,8 @@ package com.olehprukhnytskyi.macrotrackerintakeservice.util;
 public final class CacheConstants {
     public static final String MEAL_TEMPLATES = "meal:templates";
     public static final String USER_INTAKES = "user:intakes";
+    public static final String USER_INTAKES_HISTORY = "user:intakes:history";
+    public static final String USER_NUTRITION_ROLLUPS = "user:nutrition:rollups";
 
     private CacheConstants() {
     }
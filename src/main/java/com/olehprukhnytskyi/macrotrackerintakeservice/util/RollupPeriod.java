@@ -0,0 +1,31 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public enum RollupPeriod {
+    WEEK,
+    MONTH;
+
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate next(LocalDate start) {
+        return switch (this) {
+            case WEEK -> start.plusWeeks(1);
+            case MONTH -> start.plusMonths(1);
+        };
+    }
+
+    public boolean isClosed(LocalDate date, LocalDate today) {
+        return start(date).isBefore(start(today));
+    }
+
+    public String cacheKey(Long userId, LocalDate date) {
+        return userId + ":" + name() + ":" + start(date);
+    }
+}
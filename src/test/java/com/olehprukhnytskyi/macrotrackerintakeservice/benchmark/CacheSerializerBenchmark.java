@@ -0,0 +1,123 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.benchmark;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.CompactCacheSerializer;
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.RedisConfig;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializerBenchmark {
+    private static final int ENTRIES = 20;
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CompactCacheSerializer compactSerializer;
+    private List<IntakeResponseDto> day;
+    private byte[] jsonPayload;
+    private byte[] compactPayload;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheSerializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(
+                RedisConfig.createRedisObjectMapper());
+        compactSerializer = new CompactCacheSerializer(jsonSerializer, true);
+        day = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            day.add(IntakeResponseDto.builder()
+                    .id(1_000L + i)
+                    .mealGroupId(i % 4 == 0 ? UUID.randomUUID().toString() : null)
+                    .foodName("Food item " + i)
+                    .amount(50 + i * 10)
+                    .unitType(i % 5 == 0 ? UnitType.PIECES : UnitType.GRAMS)
+                    .date(LocalDate.of(2025, 1, 15))
+                    .intakePeriod(IntakePeriod.values()[i % IntakePeriod.values().length])
+                    .nutriments(NutrimentsDto.builder()
+                            .calories(new BigDecimal("247.5"))
+                            .fat(new BigDecimal("5.4"))
+                            .protein(new BigDecimal("46.5"))
+                            .carbohydrates(new BigDecimal("12.25"))
+                            .build())
+                    .build());
+        }
+        jsonPayload = jsonSerializer.serialize(day);
+        compactPayload = compactSerializer.serialize(day);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public byte[] serializeJson(PayloadCounters counters) {
+        return counters.record(jsonSerializer.serialize(day));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public byte[] serializeCompact(PayloadCounters counters) {
+        return counters.record(compactSerializer.serialize(day));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public Object deserializeJson() {
+        return jsonSerializer.deserialize(jsonPayload);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public Object deserializeCompact() {
+        return compactSerializer.deserialize(compactPayload);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadCounters {
+        public long payloads;
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloads = 0;
+            payloadBytes = 0;
+        }
+
+        private byte[] record(byte[] payload) {
+            payloads++;
+            payloadBytes += payload.length;
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.benchmark;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.client.FoodClient;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.FoodLookupCollapser;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.FoodRequestHedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class FoodLookupCollapserBenchmark {
+    private static final int[] CONCURRENCY = {1, 8, 32, 128};
+    private static final int UPSTREAM_PERMITS = 8;
+    private static final long UPSTREAM_LATENCY_MILLIS = 2;
+
+    private SimulatedFoodClient foodClient;
+    private FoodLookupCollapser direct;
+    private FoodLookupCollapser collapsed;
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : CONCURRENCY) {
+            new Runner(new OptionsBuilder()
+                    .include(FoodLookupCollapserBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        foodClient = new SimulatedFoodClient();
+        direct = new FoodLookupCollapser(foodClient, noHedging(), new SimpleMeterRegistry(),
+                false, Duration.ZERO, 1);
+        collapsed = new FoodLookupCollapser(foodClient, noHedging(), new SimpleMeterRegistry(),
+                true, Duration.ofMillis(5), 50);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCalls() {
+        foodClient.calls.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        collapsed.shutdown();
+    }
+
+    @Benchmark
+    public FoodDto singleLookups(LookupCounters counters) {
+        FoodDto food = direct.getFoodById(randomId());
+        counters.record(foodClient);
+        return food;
+    }
+
+    @Benchmark
+    public FoodDto collapsedLookups(LookupCounters counters) {
+        FoodDto food = collapsed.getFoodById(randomId());
+        counters.record(foodClient);
+        return food;
+    }
+
+    private static FoodRequestHedger noHedging() {
+        return new FoodRequestHedger(new SimpleMeterRegistry(), false, 0.95, 0.05,
+                Duration.ofMillis(10));
+    }
+
+    private static String randomId() {
+        return String.valueOf(ThreadLocalRandom.current().nextInt(10_000));
+    }
+
+    private static final class SimulatedFoodClient implements FoodClient {
+        private final Semaphore permits = new Semaphore(UPSTREAM_PERMITS);
+        private final AtomicLong calls = new AtomicLong();
+
+        @Override
+        public FoodDto getFoodById(String foodId) {
+            call();
+            return FoodDto.builder().id(foodId).productName("Food " + foodId).build();
+        }
+
+        @Override
+        public List<FoodDto> getFoodsByIds(List<String> foodIds) {
+            call();
+            return foodIds.stream()
+                    .map(id -> FoodDto.builder().id(id).productName("Food " + id).build())
+                    .toList();
+        }
+
+        private void call() {
+            calls.incrementAndGet();
+            permits.acquireUninterruptibly();
+            try {
+                Thread.sleep(UPSTREAM_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LookupCounters {
+        public long lookups;
+        public long upstreamCalls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            upstreamCalls = 0;
+        }
+
+        private void record(SimulatedFoodClient foodClient) {
+            lookups++;
+            if (foodClient.calls.get() != 0) {
+                upstreamCalls += foodClient.calls.getAndSet(0);
+            }
+        }
+    }
+}
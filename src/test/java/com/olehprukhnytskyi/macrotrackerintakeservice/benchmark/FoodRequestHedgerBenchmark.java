@@ -0,0 +1,106 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.benchmark;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.FoodRequestHedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Threads(8)
+@Fork(1)
+public class FoodRequestHedgerBenchmark {
+    private static final long FAST_MILLIS = 2;
+    private static final long SLOW_MILLIS = 100;
+    private static final double SLOW_RATIO = 0.03;
+    private static final String PRIMARY = "primary";
+    private static final String HEDGE = "hedge";
+
+    private FoodRequestHedger plain;
+    private FoodRequestHedger hedged;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FoodRequestHedgerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plain = new FoodRequestHedger(new SimpleMeterRegistry(), false, 0.95, 0.05,
+                Duration.ofMillis(5));
+        hedged = new FoodRequestHedger(new SimpleMeterRegistry(), true, 0.95, 0.05,
+                Duration.ofMillis(5));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hedged.shutdown();
+    }
+
+    @Benchmark
+    public String withoutHedging() {
+        return plain.call(() -> stubFoodLookup(PRIMARY));
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.SampleTime, Mode.AverageTime})
+    public String withHedging(HedgeCounters counters) {
+        AtomicInteger attempts = new AtomicInteger();
+        String food = hedged.call(() ->
+                stubFoodLookup(attempts.incrementAndGet() == 1 ? PRIMARY : HEDGE));
+        counters.requests++;
+        counters.hedges += attempts.get() - 1;
+        if (HEDGE.equals(food)) {
+            counters.hedgeWins++;
+        }
+        return food;
+    }
+
+    private static String stubFoodLookup(String attempt) {
+        boolean slow = ThreadLocalRandom.current().nextDouble() < SLOW_RATIO;
+        try {
+            Thread.sleep(slow ? SLOW_MILLIS : FAST_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return attempt;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HedgeCounters {
+        public long requests;
+        public long hedges;
+        public long hedgeWins;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+            hedges = 0;
+            hedgeWins = 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.benchmark;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.IntakeMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.impl.IntakeMapperImpl;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeView;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntakeDayReadBenchmark {
+    private static final Long USER_ID = 7L;
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 15);
+
+    @Param({"20", "200", "1000"})
+    private int intakes;
+
+    private final IntakeMapper intakeMapper = new IntakeMapperImpl();
+    private LocalContainerEntityManagerFactoryBean factory;
+    private IntakeRepository intakeRepository;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IntakeDayReadBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:intake_day_read;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", ""));
+        factory.setPackagesToScan(Intake.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", 50));
+        factory.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factory.getObject();
+        EntityManager entityManager =
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        intakeRepository = new JpaRepositoryFactory(entityManager)
+                .getRepository(IntakeRepository.class);
+        JpaTransactionManager transactionManager =
+                new JpaTransactionManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        List<Intake> rows = new ArrayList<>(intakes * 2);
+        for (int i = 0; i < intakes; i++) {
+            rows.add(intake(DAY, i));
+            rows.add(intake(DAY.minusDays(1 + i % 30), i));
+        }
+        transactionTemplate.executeWithoutResult(status -> intakeRepository.saveAll(rows));
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.destroy();
+    }
+
+    @Benchmark
+    public List<IntakeResponseDto> entityPath() {
+        return transactionTemplate.execute(status ->
+                intakeRepository.findByUserIdAndDate(USER_ID, DAY).stream()
+                        .map(intakeMapper::toDto)
+                        .toList());
+    }
+
+    @Benchmark
+    public List<IntakeResponseDto> projectionPath() {
+        return readOnlyTransactionTemplate.execute(status ->
+                intakeRepository.findViewsByUserIdAndDate(USER_ID, DAY).stream()
+                        .map(IntakeView::toDto)
+                        .toList());
+    }
+
+    private Intake intake(LocalDate date, int index) {
+        BigDecimal per100 = BigDecimal.valueOf(5_000 + index * 37L % 40_000, 2);
+        int amount = 50 + index % 250;
+        return Intake.builder()
+                .userId(USER_ID)
+                .foodId(String.valueOf(5_000_000_000_000L + index))
+                .foodName("Food item " + index)
+                .date(date)
+                .amount(amount)
+                .unitType(UnitType.GRAMS)
+                .intakePeriod(IntakePeriod.values()[index % IntakePeriod.values().length])
+                .nutriments(Nutriments.builder()
+                        .caloriesPer100(per100)
+                        .carbohydratesPer100(per100)
+                        .fatPer100(per100)
+                        .proteinPer100(per100)
+                        .calories(per100.multiply(BigDecimal.valueOf(amount))
+                                .movePointLeft(2))
+                        .carbohydrates(per100)
+                        .fat(per100)
+                        .protein(per100)
+                        .build())
+                .build();
+    }
+}
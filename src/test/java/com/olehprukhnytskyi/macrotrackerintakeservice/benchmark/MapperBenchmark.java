@@ -0,0 +1,126 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.IntakeMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.NutrimentsMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.impl.IntakeMapperImpl;
+import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.impl.NutrimentsMapperImpl;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.BigDecimalJsonSerializer;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private static final int VALUES = 64;
+
+    private final IntakeMapper intakeMapper = new IntakeMapperImpl();
+    private final NutrimentsMapper nutrimentsMapper = new NutrimentsMapperImpl();
+    private Intake intake;
+    private NutrimentsDto foodNutriments;
+    private Nutriments nutriments;
+    private BigDecimal[] decimals;
+    private ObjectMapper plainMapper;
+    private ObjectMapper strippingMapper;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        nutriments = Nutriments.builder()
+                .caloriesPer100(new BigDecimal("389.00"))
+                .carbohydratesPer100(new BigDecimal("66.30"))
+                .fatPer100(new BigDecimal("6.90"))
+                .proteinPer100(new BigDecimal("16.90"))
+                .calories(new BigDecimal("233.40"))
+                .carbohydrates(new BigDecimal("39.78"))
+                .fat(new BigDecimal("4.14"))
+                .protein(new BigDecimal("10.14"))
+                .build();
+        intake = Intake.builder()
+                .id(1_000L)
+                .userId(7L)
+                .foodId("5000159407236")
+                .foodName("Rolled oats")
+                .date(LocalDate.of(2025, 1, 15))
+                .amount(60)
+                .unitType(UnitType.GRAMS)
+                .intakePeriod(IntakePeriod.BREAKFAST)
+                .nutriments(nutriments)
+                .build();
+        foodNutriments = NutrimentsDto.builder()
+                .calories(new BigDecimal("389.0"))
+                .carbohydrates(new BigDecimal("66.3"))
+                .fat(new BigDecimal("6.9"))
+                .protein(new BigDecimal("16.9"))
+                .build();
+        SplittableRandom random = new SplittableRandom(42);
+        decimals = new BigDecimal[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            decimals[i] = BigDecimal.valueOf(random.nextInt(0, 90_000), 2);
+        }
+        plainMapper = new ObjectMapper();
+        strippingMapper = new ObjectMapper().registerModule(new SimpleModule()
+                .addSerializer(BigDecimal.class, new BigDecimalJsonSerializer()));
+    }
+
+    @Benchmark
+    public IntakeResponseDto intakeToDto() {
+        return intakeMapper.toDto(intake);
+    }
+
+    @Benchmark
+    public Nutriments nutrimentsFromFood() {
+        return nutrimentsMapper.fromFoodNutriments(foodNutriments);
+    }
+
+    @Benchmark
+    public Nutriments nutrimentsClone() {
+        return nutrimentsMapper.clone(nutriments);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public byte[] bigDecimalPlain() throws JsonProcessingException {
+        return plainMapper.writeValueAsBytes(decimals);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public byte[] bigDecimalStripTrailingZeros() throws JsonProcessingException {
+        return strippingMapper.writeValueAsBytes(decimals);
+    }
+}
@@ -0,0 +1,159 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.benchmark;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.FixedPointNutrients;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.GramsCalculationStrategy;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.PiecesCalculationStrategy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NutrientCalculationBenchmark {
+    private static final int VALUES = 1024;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private BigDecimal[] per100;
+    private long[] per100Fixed;
+    private long[] totals;
+    private int[] amounts;
+    private List<Nutriments> rows;
+    private final GramsCalculationStrategy gramsStrategy = new GramsCalculationStrategy();
+    private final PiecesCalculationStrategy piecesStrategy = new PiecesCalculationStrategy();
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NutrientCalculationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        per100 = new BigDecimal[VALUES];
+        per100Fixed = new long[VALUES];
+        amounts = new int[VALUES];
+        totals = new long[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            per100[i] = BigDecimal.valueOf(random.nextInt(0, 90_000), 2);
+            per100Fixed[i] = FixedPointNutrients.toFixed(per100[i]);
+            amounts[i] = random.nextInt(1, 1_000);
+        }
+        rows = Arrays.stream(per100)
+                .map(value -> Nutriments.builder()
+                        .caloriesPer100(value)
+                        .carbohydratesPer100(value)
+                        .fatPer100(value)
+                        .proteinPer100(value)
+                        .caloriesPerPiece(value)
+                        .carbohydratesPerPiece(value)
+                        .fatPerPiece(value)
+                        .proteinPerPiece(value)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void gramsBigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(per100[i].multiply(BigDecimal.valueOf(amounts[i]))
+                    .divide(HUNDRED, 2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void gramsFixedPointAtEdges(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(FixedPointNutrients.grams(per100[i], amounts[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void gramsFixedPointKernel(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(FixedPointNutrients.perHundredGrams(per100Fixed[i], amounts[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void piecesBigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(per100[i].multiply(BigDecimal.valueOf(amounts[i])));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void piecesFixedPointKernel(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(FixedPointNutrients.perPieces(per100Fixed[i], amounts[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public List<Nutriments> gramsStrategyPerRow() {
+        for (int i = 0; i < VALUES; i++) {
+            gramsStrategy.calculate(rows.get(i), amounts[i]);
+        }
+        return rows;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public List<Nutriments> gramsStrategyBulk() {
+        gramsStrategy.calculateAll(rows, amounts);
+        return rows;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long[] gramsStrategyColumns() {
+        gramsStrategy.calculateAll(per100Fixed, amounts, totals, VALUES);
+        return totals;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public List<Nutriments> piecesStrategyPerRow() {
+        for (int i = 0; i < VALUES; i++) {
+            piecesStrategy.calculate(rows.get(i), amounts[i]);
+        }
+        return rows;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public List<Nutriments> piecesStrategyBulk() {
+        piecesStrategy.calculateAll(rows, amounts);
+        return rows;
+    }
+}
@@ -0,0 +1,87 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.benchmark;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.RedisConfig;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisDaySerializationBenchmark {
+    @Param({"5", "20", "100"})
+    private int intakes;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private List<IntakeResponseDto> day;
+    private byte[] payload;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RedisDaySerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        serializer = new GenericJackson2JsonRedisSerializer(RedisConfig.createRedisObjectMapper());
+        day = new ArrayList<>(intakes);
+        for (int i = 0; i < intakes; i++) {
+            day.add(IntakeResponseDto.builder()
+                    .id(1_000L + i)
+                    .foodName("Food item " + i)
+                    .amount(50 + i * 10)
+                    .unitType(i % 5 == 0 ? UnitType.PIECES : UnitType.GRAMS)
+                    .date(LocalDate.of(2025, 1, 15))
+                    .intakePeriod(IntakePeriod.values()[i % IntakePeriod.values().length])
+                    .nutriments(NutrimentsDto.builder()
+                            .calories(new BigDecimal("247.50"))
+                            .fat(new BigDecimal("5.40"))
+                            .protein(new BigDecimal("46.50"))
+                            .carbohydrates(new BigDecimal("12.25"))
+                            .build())
+                    .build());
+        }
+        payload = serializer.serialize(day);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(day);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(payload);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return serializer.deserialize(serializer.serialize(day));
+    }
+}
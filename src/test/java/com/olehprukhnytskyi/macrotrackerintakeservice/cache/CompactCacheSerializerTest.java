@@ -0,0 +1,119 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.RedisConfig;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.MealTemplateItemDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.MealTemplateResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class CompactCacheSerializerTest {
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CompactCacheSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(
+                RedisConfig.createRedisObjectMapper());
+        serializer = new CompactCacheSerializer(jsonSerializer, true);
+    }
+
+    @Test
+    @DisplayName("When serializing intakes, should round trip and be smaller than JSON")
+    void serialize_whenIntakeList_shouldRoundTrip() {
+        // Given
+        List<IntakeResponseDto> intakes = List.of(
+                IntakeResponseDto.builder()
+                        .id(1L)
+                        .mealGroupId("group-1")
+                        .foodName("Chicken breast")
+                        .amount(150)
+                        .unitType(UnitType.GRAMS)
+                        .date(LocalDate.of(2025, 1, 1))
+                        .intakePeriod(IntakePeriod.BREAKFAST)
+                        .nutriments(nutriments())
+                        .version(3L)
+                        .build(),
+                IntakeResponseDto.builder()
+                        .id(2L)
+                        .foodName("Egg")
+                        .amount(2)
+                        .unitType(UnitType.PIECES)
+                        .date(LocalDate.of(2025, 1, 1))
+                        .nutriments(null)
+                        .build());
+
+        // When
+        byte[] bytes = serializer.serialize(intakes);
+        Object result = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(result).isEqualTo(intakes);
+        assertThat(bytes.length).isLessThan(jsonSerializer.serialize(intakes).length);
+    }
+
+    @Test
+    @DisplayName("When serializing templates, should round trip")
+    void serialize_whenTemplateList_shouldRoundTrip() {
+        // Given
+        MealTemplateItemDto item = MealTemplateItemDto.builder()
+                .foodId("food-1")
+                .foodName("Rice")
+                .amount(200)
+                .unitType(UnitType.GRAMS)
+                .nutriments(nutriments())
+                .build();
+        List<MealTemplateResponseDto> templates = List.of(
+                MealTemplateResponseDto.builder().id(5L).name("Lunch").items(List.of(item)).build(),
+                MealTemplateResponseDto.builder().id(6L).name("Empty").build());
+
+        // When
+        Object result = serializer.deserialize(serializer.serialize(templates));
+
+        // Then
+        assertThat(result).isEqualTo(templates);
+    }
+
+    @Test
+    @DisplayName("When payload was written as JSON, should still be readable")
+    void deserialize_whenLegacyJson_shouldFallBackToJson() {
+        // Given
+        List<IntakeResponseDto> intakes = List.of(IntakeResponseDto.builder()
+                .id(1L)
+                .foodName("Apple")
+                .amount(100)
+                .unitType(UnitType.GRAMS)
+                .date(LocalDate.of(2025, 1, 1))
+                .nutriments(NutrimentsDto.builder().calories(new BigDecimal("52")).build())
+                .build());
+        byte[] legacy = new CompactCacheSerializer(jsonSerializer, false).serialize(intakes);
+
+        // When
+        Object result = serializer.deserialize(legacy);
+
+        // Then
+        assertThat(legacy[0]).isEqualTo((byte) '[');
+        assertThat(result).isEqualTo(intakes);
+    }
+
+    private NutrimentsDto nutriments() {
+        return NutrimentsDto.builder()
+                .calories(new BigDecimal("247.5"))
+                .fat(new BigDecimal("5.4"))
+                .protein(new BigDecimal("46.50"))
+                .carbohydrates(BigDecimal.ZERO)
+                .caloriesPerPiece(new BigDecimal("12345678901234567890.123"))
+                .fatPerPiece(null)
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private Cache remote;
+    private MeterRegistry meterRegistry;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = spy(new ConcurrentMapCache("user:intakes"));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoTierCache("user:intakes", remote,
+                Caffeine.newBuilder().maximumSize(100).build(), publisher,
+                CacheLoadLease.disabled(), null, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("When value is in local tier, should not query remote tier")
+    void get_whenValueInLocalTier_shouldNotQueryRemote() {
+        // Given
+        remote.put("1:2025-01-01", "value");
+
+        // When
+        cache.get("1:2025-01-01");
+        Cache.ValueWrapper second = cache.get("1:2025-01-01");
+
+        // Then
+        assertThat(second).isNotNull();
+        assertThat(second.get()).isEqualTo("value");
+        verify(remote, times(1)).get("1:2025-01-01");
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When evicting, should clear both tiers and broadcast invalidation")
+    void evict_shouldClearBothTiersAndPublish() {
+        // Given
+        cache.put("1:2025-01-01", "value");
+
+        // When
+        cache.evict("1:2025-01-01");
+
+        // Then
+        assertThat(cache.get("1:2025-01-01")).isNull();
+        assertThat(remote.get("1:2025-01-01")).isNull();
+        verify(publisher, times(2)).publish("user:intakes", "1:2025-01-01");
+    }
+
+    @Test
+    @DisplayName("When invalidation arrives from another node, should drop only local copy")
+    void evictLocal_shouldDropLocalCopyOnly() {
+        // Given
+        cache.put(42L, "templates");
+
+        // When
+        cache.evictLocal("42");
+        Cache.ValueWrapper wrapper = cache.get(42L);
+
+        // Then
+        assertThat(wrapper).isNotNull();
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When concurrent callers miss the same key, should run loader once")
+    void get_whenConcurrentMisses_shouldCoalesceIntoSingleLoad() throws Exception {
+        // Given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<String>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> cache.get("1:2025-01-01", () -> {
+                loads.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return "loaded";
+            })));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced() < callers - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalesced()).isEqualTo(callers - 1);
+        assertThat(meterRegistry.get("cache.load").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When loader throws an Error, should fail coalesced waiters instead of hanging")
+    void get_whenLoaderThrowsError_shouldReleaseCoalescedWaiters() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<String> loader = executor.submit(() -> cache.get("1:2025-01-01", () -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new ExceptionInInitializerError("boom");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> waiter = executor.submit(() -> cache.get("1:2025-01-01", () -> "late"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        executor.shutdown();
+
+        // Then
+        assertThatThrownBy(() -> loader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExceptionInInitializerError.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExceptionInInitializerError.class);
+        assertThat(coalesced()).isEqualTo(1);
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("cache.load.coalesced")
+                .tag("scope", "local")
+                .counter()
+                .count();
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.requests")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,89 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.olehprukhnytskyi.event.UserDeletedEvent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.UserPurgeService;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+@ExtendWith(MockitoExtension.class)
+class UserEventConsumerTest {
+    @Mock
+    private UserPurgeService userPurgeService;
+
+    @InjectMocks
+    private UserEventConsumer userEventConsumer;
+
+    @Test
+    @DisplayName("When batch repeats a user, should launch one purge per user")
+    void handleUserDeleted_whenDuplicateUsers_shouldLaunchOncePerUser() {
+        // Given
+        List<ConsumerRecord<String, UserDeletedEvent>> records = List.of(
+                record(0, new UserDeletedEvent(1L)),
+                record(1, new UserDeletedEvent(2L)),
+                record(2, new UserDeletedEvent(1L)));
+
+        // When
+        userEventConsumer.handleUserDeleted(records);
+
+        // Then
+        verify(userPurgeService, times(1)).launch(1L);
+        verify(userPurgeService, times(1)).launch(2L);
+    }
+
+    @Test
+    @DisplayName("When record cannot be deserialized, should fail at its index")
+    void handleUserDeleted_whenPoisonRecord_shouldFailAtIndex() {
+        // Given
+        List<ConsumerRecord<String, UserDeletedEvent>> records = List.of(
+                record(0, new UserDeletedEvent(1L)),
+                record(1, null),
+                record(2, new UserDeletedEvent(3L)));
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> userEventConsumer.handleUserDeleted(records));
+
+        // Then
+        assertThat(exception.getIndex()).isEqualTo(1);
+        verify(userPurgeService).launch(1L);
+        verify(userPurgeService, never()).launch(3L);
+    }
+
+    @Test
+    @DisplayName("When purge launch fails, should fail at the record index")
+    void handleUserDeleted_whenLaunchFails_shouldFailAtIndex() {
+        // Given
+        doThrow(new IllegalStateException("Job repository unavailable"))
+                .when(userPurgeService).launch(2L);
+        List<ConsumerRecord<String, UserDeletedEvent>> records = List.of(
+                record(0, new UserDeletedEvent(1L)),
+                record(1, new UserDeletedEvent(2L)));
+
+        // When
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> userEventConsumer.handleUserDeleted(records));
+
+        // Then
+        assertThat(exception.getIndex()).isEqualTo(1);
+        verify(userPurgeService, times(2)).launch(anyLong());
+    }
+
+    private ConsumerRecord<String, UserDeletedEvent> record(long offset, UserDeletedEvent event) {
+        return new ConsumerRecord<>(UserEventConsumer.TOPIC, 0, offset, null, event);
+    }
+}
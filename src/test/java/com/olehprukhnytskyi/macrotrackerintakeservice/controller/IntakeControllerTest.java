@@ -1,6 +1,7 @@
 package com.olehprukhnytskyi.macrotrackerintakeservice.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,6 +15,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.BatchIntakeRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.CacheablePage;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeRequestDto;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
@@ -151,8 +154,8 @@ class IntakeControllerTest extends AbstractIntegrationTest {
     }
 
     @Test
-    @DisplayName("When no date, should return all intakes for user")
-    void findByDate_whenNoDate_shouldReturnAllIntakesForUser() throws Exception {
+    @DisplayName("When no date, should return most recent intakes for user")
+    void findByDate_whenNoDate_shouldReturnRecentIntakesForUser() throws Exception {
         // When
         MvcResult mvcResult = mockMvc.perform(
                         get("/api/intake")
@@ -173,6 +176,83 @@ class IntakeControllerTest extends AbstractIntegrationTest {
         assertThat(response).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("When paging history, should walk pages newest first using cursor")
+    void findHistory_whenPaging_shouldReturnPagesNewestFirst() throws Exception {
+        // Given
+        Long userId = 2L;
+        LocalDate date = LocalDate.of(2025, 9, 1);
+        for (int i = 0; i < 3; i++) {
+            intakeRepository.save(Intake.builder()
+                    .userId(userId)
+                    .foodId("food-" + i)
+                    .foodName("Food " + i)
+                    .amount(100)
+                    .date(date.plusDays(i))
+                    .build());
+        }
+
+        // When
+        CacheablePage<IntakeResponseDto> first = fetchHistory(userId, null, 2);
+        CacheablePage<IntakeResponseDto> second = fetchHistory(userId, first.getNextCursor(), 2);
+
+        // Then
+        assertThat(first.getContent())
+                .extracting(IntakeResponseDto::getDate)
+                .containsExactly(date.plusDays(2), date.plusDays(1));
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getContent())
+                .extracting(IntakeResponseDto::getDate)
+                .containsExactly(date);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("When history cursor is malformed, should return BAD_REQUEST")
+    void findHistory_whenInvalidCursor_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(
+                        get("/api/intake/history")
+                                .header(CustomHeaders.X_USER_ID, 1L)
+                                .param("cursor", "not-a-cursor")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("When intake is deleted, should subtract it from daily summary")
+    void findSummary_whenIntakeDeleted_shouldReflectDelta() throws Exception {
+        // Given
+        Long userId = 1L;
+        mockMvc.perform(
+                        get("/api/intake/summary")
+                                .header(CustomHeaders.X_USER_ID, userId)
+                                .param("from", "2025-09-01")
+                                .param("to", "2025-09-30")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2025-09-06"))
+                .andExpect(jsonPath("$[0].totals.calories").value(50))
+                .andExpect(jsonPath("$[0].totals.protein").value(80))
+                .andExpect(jsonPath("$[0].periods.SNACK.intakeCount").value(1));
+
+        // When
+        mockMvc.perform(
+                        delete("/api/intake/{id}", getRandomIntakeFromDb().getId())
+                                .header(CustomHeaders.X_USER_ID, userId)
+                )
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(
+                        get("/api/intake/summary")
+                                .header(CustomHeaders.X_USER_ID, userId)
+                                .param("from", "2025-09-01")
+                                .param("to", "2025-09-30")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
     @Test
     @DisplayName("When request is not duplicated, should return created intake")
     void addIntake_whenNotDuplicated_shouldReturnCreatedWithBody() throws Exception {
@@ -230,7 +310,7 @@ class IntakeControllerTest extends AbstractIntegrationTest {
                 mvcResult.getResponse().getContentAsString(), IntakeResponseDto.class);
         assertThat(intakeResponseDto)
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "version")
                 .isEqualTo(responseDto);
         verify(foodClientService).getFoodById("food-1");
     }
@@ -269,6 +349,94 @@ class IntakeControllerTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.amount").value(200));
     }
 
+    @Test
+    @DisplayName("When batch is valid, should resolve foods once and save every intake")
+    void addIntakes_whenValidBatch_shouldSaveAllWithOneFoodLookup() throws Exception {
+        // Given
+        Long userId = 77L;
+        LocalDate date = LocalDate.of(2025, 5, 1);
+        String requestJson = objectMapper.writeValueAsString(BatchIntakeRequestDto.builder()
+                .items(List.of(
+                        IntakeRequestDto.builder()
+                                .foodId("food-a")
+                                .amount(100)
+                                .date(date)
+                                .intakePeriod(IntakePeriod.LUNCH)
+                                .build(),
+                        IntakeRequestDto.builder()
+                                .foodId("food-b")
+                                .amount(50)
+                                .date(date)
+                                .intakePeriod(IntakePeriod.LUNCH)
+                                .build(),
+                        IntakeRequestDto.builder()
+                                .foodId("food-a")
+                                .amount(200)
+                                .date(date.plusDays(1))
+                                .build()))
+                .build());
+
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(foodClientService.getFoodsByIds(anyList())).thenReturn(List.of(
+                batchFood("food-a", "Rice", 130),
+                batchFood("food-b", "Beans", 340)));
+
+        // When
+        mockMvc.perform(post("/api/intake/batch")
+                        .header(CustomHeaders.X_USER_ID, userId)
+                        .header(CustomHeaders.X_REQUEST_ID, "req-batch-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].foodName").value("Rice"))
+                .andExpect(jsonPath("$[0].nutriments.calories").value(130))
+                .andExpect(jsonPath("$[1].foodName").value("Beans"))
+                .andExpect(jsonPath("$[2].nutriments.calories").value(260));
+
+        // Then
+        verify(foodClientService).getFoodsByIds(List.of("food-a", "food-b"));
+        assertThat(intakeRepository.findByUserIdAndDate(userId, date)).hasSize(2);
+        assertThat(intakeRepository.findByUserIdAndDate(userId, date.plusDays(1))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("When batch references an unknown food, should save nothing")
+    void addIntakes_whenFoodMissing_shouldReturnNotFound() throws Exception {
+        // Given
+        Long userId = 78L;
+        String requestJson = objectMapper.writeValueAsString(BatchIntakeRequestDto.builder()
+                .items(List.of(
+                        IntakeRequestDto.builder()
+                                .foodId("food-a")
+                                .amount(100)
+                                .date(LocalDate.now())
+                                .build(),
+                        IntakeRequestDto.builder()
+                                .foodId("food-missing")
+                                .amount(100)
+                                .date(LocalDate.now())
+                                .build()))
+                .build());
+
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(foodClientService.getFoodsByIds(anyList()))
+                .thenReturn(List.of(batchFood("food-a", "Rice", 130)));
+
+        // When
+        mockMvc.perform(post("/api/intake/batch")
+                        .header(CustomHeaders.X_USER_ID, userId)
+                        .header(CustomHeaders.X_REQUEST_ID, "req-batch-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isNotFound());
+
+        // Then
+        assertThat(intakeRepository.findByUserId(userId)).isEmpty();
+    }
+
     @Test
     @DisplayName("When creating intake from Global Food (userId=null), "
                  + "should NOT overwrite userId with null")
@@ -342,6 +510,7 @@ class IntakeControllerTest extends AbstractIntegrationTest {
                 .amount(requestDto.getAmount())
                 .nutriments(nutrimentsMapper.toDto(intake.getNutriments()))
                 .intakePeriod(IntakePeriod.BREAKFAST)
+                .version(intake.getVersion() + 1)
                 .build();
         String expected = objectMapper.writeValueAsString(responseDto);
 
@@ -377,9 +546,37 @@ class IntakeControllerTest extends AbstractIntegrationTest {
         assertThat(intakeRepository.findById(intakeId)).isEmpty();
     }
 
+    private FoodDto batchFood(String id, String name, int caloriesPer100) {
+        return FoodDto.builder()
+                .id(id)
+                .productName(name)
+                .nutriments(NutrimentsDto.builder()
+                        .calories(BigDecimal.valueOf(caloriesPer100))
+                        .build())
+                .availableUnits(List.of(UnitType.GRAMS))
+                .build();
+    }
+
     private Intake getRandomIntakeFromDb() {
         return intakeRepository.findAll().stream()
                 .findFirst()
                 .orElseThrow();
     }
+
+    private CacheablePage<IntakeResponseDto> fetchHistory(Long userId, String cursor, int size)
+            throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                        get("/api/intake/history")
+                                .header(CustomHeaders.X_USER_ID, userId)
+                                .param("size", String.valueOf(size))
+                                .param("cursor", cursor != null ? cursor : "")
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(
+                mvcResult.getResponse().getContentAsString(),
+                objectMapper.getTypeFactory()
+                        .constructParametricType(CacheablePage.class, IntakeResponseDto.class)
+        );
+    }
 }
@@ -0,0 +1,68 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaEventPublisherTest {
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new KafkaEventPublisher(kafkaTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("When send is pending, should count it in flight until acknowledged")
+    void publish_whenPending_shouldTrackInFlightAndLatency() {
+        // Given
+        CompletableFuture<SendResult<String, Object>> ack = new CompletableFuture<>();
+        when(kafkaTemplate.send("topic", "key", "payload")).thenReturn(ack);
+
+        // When
+        CompletableFuture<SendResult<String, Object>> result =
+                publisher.publish("topic", "key", "payload");
+        double pending = meterRegistry.get("kafka.producer.in.flight").gauge().value();
+        ack.complete(null);
+
+        // Then
+        assertThat(result).isCompleted();
+        assertThat(pending).isEqualTo(1);
+        assertThat(meterRegistry.get("kafka.producer.in.flight").gauge().value()).isZero();
+        assertThat(meterRegistry.get("kafka.producer.send")
+                .tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When send fails, should record failure outcome")
+    void publish_whenBrokerFails_shouldRecordFailure() {
+        // Given
+        when(kafkaTemplate.send("topic", "key", "payload"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        // When
+        CompletableFuture<SendResult<String, Object>> result =
+                publisher.publish("topic", "key", "payload");
+
+        // Then
+        assertThat(result).isCompletedExceptionally();
+        assertThat(meterRegistry.get("kafka.producer.send")
+                .tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.olehprukhnytskyi.exception.BadRequestException;
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.DailyNutritionSummaryDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.DailyNutritionSummaryRepository;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class DailySummaryServiceTest extends AbstractIntegrationTest {
+    @Autowired
+    private DailySummaryService dailySummaryService;
+    @Autowired
+    private DailyNutritionSummaryRepository summaryRepository;
+
+    private final Long userId = 11L;
+    private final LocalDate day = LocalDate.of(2025, 3, 10);
+
+    @AfterEach
+    void tearDown() {
+        summaryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When intakes are added and removed, should keep per-period totals in sync")
+    void apply_whenAddedAndRemoved_shouldMaintainTotals() {
+        // Given
+        Intake breakfast = intake(IntakePeriod.BREAKFAST, 300, 20);
+        Intake lunch = intake(IntakePeriod.LUNCH, 500, 35);
+        Intake secondLunch = intake(IntakePeriod.LUNCH, 150, 5);
+
+        // When
+        dailySummaryService.added(List.of(breakfast, lunch));
+        dailySummaryService.added(List.of(secondLunch));
+        dailySummaryService.removed(List.of(breakfast));
+
+        // Then
+        List<DailyNutritionSummaryDto> summary = dailySummaryService
+                .findSummary(userId, day, day);
+        assertThat(summary).hasSize(1);
+        DailyNutritionSummaryDto result = summary.getFirst();
+        assertThat(result.getTotals().getCalories()).isEqualByComparingTo("650");
+        assertThat(result.getTotals().getProtein()).isEqualByComparingTo("40");
+        assertThat(result.getTotals().getIntakeCount()).isEqualTo(2);
+        assertThat(result.getPeriods()).containsOnlyKeys(IntakePeriod.LUNCH);
+    }
+
+    @Test
+    @DisplayName("When an intake moves to another day, should move its totals")
+    void apply_whenIntakeMoved_shouldShiftTotals() {
+        // Given
+        Intake intake = intake(IntakePeriod.DINNER, 400, 30);
+        dailySummaryService.added(List.of(intake));
+        DailySummaryService.Delta previous = DailySummaryService.Delta.removed(intake);
+        intake.setDate(day.plusDays(1));
+
+        // When
+        dailySummaryService.apply(List.of(previous, DailySummaryService.Delta.added(intake)));
+
+        // Then
+        assertThat(dailySummaryService.findSummary(userId, day, day.plusDays(1)))
+                .extracting(DailyNutritionSummaryDto::getDate)
+                .containsExactly(day.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("When deltas arrive out of order, should upsert rows in key order")
+    void apply_whenDeltasUnordered_shouldUpsertInKeyOrder() {
+        // Given
+        DailyNutritionSummaryRepository repository = mock(DailyNutritionSummaryRepository.class);
+        when(repository.addDelta(any(), any(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(1);
+        Intake nextDinner = intake(IntakePeriod.DINNER, 400, 30);
+        nextDinner.setDate(day.plusDays(1));
+        Intake dinner = intake(IntakePeriod.DINNER, 300, 20);
+        Intake breakfast = intake(IntakePeriod.BREAKFAST, 200, 10);
+
+        // When
+        new DailySummaryService(repository).added(List.of(nextDinner, dinner, breakfast));
+
+        // Then
+        InOrder order = inOrder(repository);
+        order.verify(repository).addDelta(eq(userId), eq(day), eq("BREAKFAST"),
+                any(), any(), any(), any(), anyInt());
+        order.verify(repository).addDelta(eq(userId), eq(day), eq("DINNER"),
+                any(), any(), any(), any(), anyInt());
+        order.verify(repository).addDelta(eq(userId), eq(day.plusDays(1)), eq("DINNER"),
+                any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("When range is longer than a year, should throw BadRequestException")
+    void findSummary_whenRangeTooLong_shouldThrow() {
+        assertThrows(BadRequestException.class, () ->
+                dailySummaryService.findSummary(userId, day, day.plusDays(366)));
+    }
+
+    private Intake intake(IntakePeriod period, int calories, int protein) {
+        return Intake.builder()
+                .userId(userId)
+                .date(day)
+                .foodId("food")
+                .intakePeriod(period)
+                .nutriments(Nutriments.builder()
+                        .calories(BigDecimal.valueOf(calories))
+                        .protein(BigDecimal.valueOf(protein))
+                        .build())
+                .build();
+    }
+}
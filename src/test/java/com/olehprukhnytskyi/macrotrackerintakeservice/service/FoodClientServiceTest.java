@@ -1,29 +1,56 @@
 package com.olehprukhnytskyi.macrotrackerintakeservice.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.olehprukhnytskyi.macrotrackerintakeservice.cache.FoodCatalogCache;
 import com.olehprukhnytskyi.macrotrackerintakeservice.client.FoodClient;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
 import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class FoodClientServiceTest {
     @Mock
     private FoodClient foodClient;
+    @Mock
+    private FoodSnapshotStore foodSnapshotStore;
+    @Spy
+    private FoodCatalogCache foodCatalogCache = new FoodCatalogCache(
+            100, Duration.ofMinutes(1), Duration.ofMinutes(1), new SimpleMeterRegistry());
 
-    @InjectMocks
     private FoodClientService foodClientService;
 
+    @BeforeEach
+    void setUp() {
+        FoodLookupCollapser collapser = new FoodLookupCollapser(foodClient,
+                new FoodRequestHedger(new SimpleMeterRegistry(), false, 0.95, 0.05,
+                        Duration.ofMillis(10)),
+                new SimpleMeterRegistry(), false, Duration.ofMillis(5), 50);
+        foodClientService = new FoodClientService(foodClient, foodCatalogCache, collapser,
+                FoodServiceGuardTest.guard(3, 20, Duration.ofSeconds(2)),
+                foodSnapshotStore);
+    }
+
     @Test
     @DisplayName("When food exists, should return DTO")
     void getFoodById_whenFoodExists_shouldReturnDto() {
@@ -52,6 +79,209 @@ class FoodClientServiceTest {
 
         // When & Then
         assertThrows(FeignException.class, () -> foodClientService.getFoodById(foodId));
-        verify(foodClient, Mockito.atLeast(1)).getFoodById(foodId);
+        verify(foodClient, times(3)).getFoodById(foodId);
+    }
+
+    @Test
+    @DisplayName("When food was fetched before, should serve it without calling Food Service")
+    void getFoodById_whenCached_shouldNotCallUpstream() {
+        // Given
+        FoodDto food = FoodDto.builder().id("123").productName("Pizza").build();
+        when(foodClient.getFoodById("123")).thenReturn(food);
+
+        // When
+        foodClientService.getFoodById("123");
+        FoodDto second = foodClientService.getFoodById("123");
+
+        // Then
+        assertEquals(food, second);
+        verify(foodClient, times(1)).getFoodById("123");
+    }
+
+    @Test
+    @DisplayName("When some foods are cached, batch lookup should fetch only missing ids")
+    void getFoodsByIds_whenPartiallyCached_shouldFetchMissingOnly() {
+        // Given
+        FoodDto cached = FoodDto.builder().id("a").productName("Apple").build();
+        FoodDto missing = FoodDto.builder().id("b").productName("Banana").build();
+        when(foodClient.getFoodById("a")).thenReturn(cached);
+        when(foodClient.getFoodsByIds(List.of("b"))).thenReturn(List.of(missing));
+        foodClientService.getFoodById("a");
+
+        // When
+        List<FoodDto> result = foodClientService.getFoodsByIds(List.of("a", "b"));
+
+        // Then
+        assertThat(result).containsExactly(cached, missing);
+        verify(foodClient).getFoodsByIds(List.of("b"));
+    }
+
+    @Test
+    @DisplayName("When food is evicted, should fetch it again")
+    void getFoodById_whenEvicted_shouldCallUpstreamAgain() {
+        // Given
+        FoodDto food = FoodDto.builder().id("123").productName("Pizza").build();
+        when(foodClient.getFoodById("123")).thenReturn(food);
+        foodClientService.getFoodById("123");
+
+        // When
+        foodCatalogCache.evict("123");
+        foodClientService.getFoodById("123");
+
+        // Then
+        verify(foodClient, times(2)).getFoodById("123");
+    }
+
+    @Test
+    @DisplayName("When fresh snapshot exists, should serve it without calling Food Service")
+    void getFoodById_whenFreshSnapshot_shouldNotCallUpstream() {
+        // Given
+        FoodDto food = FoodDto.builder().id("123").productName("Pizza").build();
+        when(foodSnapshotStore.find("123"))
+                .thenReturn(Optional.of(new FoodSnapshotStore.Snapshot(food, false)));
+
+        // When
+        FoodDto result = foodClientService.getFoodById("123");
+
+        // Then
+        assertEquals(food, result);
+        verify(foodClient, never()).getFoodById(anyString());
+    }
+
+    @Test
+    @DisplayName("When snapshot is stale, should serve it and refresh in background")
+    void getFoodById_whenStaleSnapshot_shouldRefreshInBackground() {
+        // Given
+        FoodDto stale = FoodDto.builder().id("123").productName("Old pizza").build();
+        FoodDto fresh = FoodDto.builder().id("123").productName("Pizza").build();
+        when(foodSnapshotStore.find("123"))
+                .thenReturn(Optional.of(new FoodSnapshotStore.Snapshot(stale, true)));
+        when(foodClient.getFoodById("123")).thenReturn(fresh);
+
+        // When
+        FoodDto result = foodClientService.getFoodById("123");
+
+        // Then
+        assertEquals(stale, result);
+        verify(foodSnapshotStore, timeout(1000)).save(List.of(fresh));
+        verify(foodCatalogCache, timeout(1000)).evict("123");
+    }
+
+    @Test
+    @DisplayName("When food is fetched from Food Service, should store its snapshot")
+    void getFoodsByIds_whenFetched_shouldStoreSnapshots() {
+        // Given
+        FoodDto food = FoodDto.builder().id("a").productName("Apple").build();
+        when(foodClient.getFoodsByIds(List.of("a"))).thenReturn(List.of(food));
+
+        // When
+        foodClientService.getFoodsByIds(List.of("a"));
+
+        // Then
+        verify(foodSnapshotStore).save(List.of(food));
+    }
+
+    @Test
+    @DisplayName("When Food Service is down, should still serve foods from snapshots")
+    void getFoodsByIds_whenUpstreamDown_shouldServeSnapshots() {
+        // Given
+        FoodDto food = FoodDto.builder().id("a").productName("Apple").build();
+        when(foodSnapshotStore.findAll(List.of("a")))
+                .thenReturn(Map.of("a", new FoodSnapshotStore.Snapshot(food, false)));
+
+        // When
+        List<FoodDto> result = foodClientService.getFoodsByIds(List.of("a"));
+
+        // Then
+        assertThat(result).containsExactly(food);
+        verify(foodClient, never()).getFoodsByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("When food was invalidated on this instance, should not trust its snapshot")
+    void getFoodById_whenInvalidatedLocally_shouldFetchBeforeServing() {
+        // Given
+        FoodDto outdated = FoodDto.builder().id("123").productName("Old pizza").build();
+        FoodDto fresh = FoodDto.builder().id("123").productName("Pizza").build();
+        when(foodSnapshotStore.find("123"))
+                .thenReturn(Optional.of(new FoodSnapshotStore.Snapshot(outdated, false)));
+        when(foodClient.getFoodById("123")).thenReturn(fresh);
+        foodCatalogCache.invalidate("123");
+
+        // When
+        FoodDto result = foodClientService.getFoodById("123");
+
+        // Then
+        assertEquals(fresh, result);
+        verify(foodSnapshotStore).save(List.of(fresh));
+    }
+
+    @Test
+    @DisplayName("When snapshot was invalidated by an update event, should fetch it synchronously")
+    void getFoodById_whenInvalidatedSnapshot_shouldFetchBeforeServing() {
+        // Given
+        FoodDto outdated = FoodDto.builder().id("123").productName("Old pizza").build();
+        FoodDto fresh = FoodDto.builder().id("123").productName("Pizza").build();
+        when(foodSnapshotStore.find("123"))
+                .thenReturn(Optional.of(new FoodSnapshotStore.Snapshot(outdated, true, true)));
+        when(foodClient.getFoodById("123")).thenReturn(fresh);
+
+        // When
+        FoodDto result = foodClientService.getFoodById("123");
+
+        // Then
+        assertEquals(fresh, result);
+        verify(foodSnapshotStore).save(List.of(fresh));
+    }
+
+    @Test
+    @DisplayName("When invalidated snapshot cannot be reloaded, should fall back to it")
+    void getFoodById_whenInvalidatedAndUpstreamDown_shouldServeLastSnapshot() {
+        // Given
+        FoodDto outdated = FoodDto.builder().id("123").productName("Old pizza").build();
+        when(foodSnapshotStore.find("123"))
+                .thenReturn(Optional.of(new FoodSnapshotStore.Snapshot(outdated, true, true)));
+        when(foodClient.getFoodById("123")).thenThrow(FeignException.class);
+
+        // When
+        FoodDto result = foodClientService.getFoodById("123");
+
+        // Then
+        assertEquals(outdated, result);
+    }
+
+    @Test
+    @DisplayName("When batch has invalidated snapshots, should fetch them with the missing ids")
+    void getFoodsByIds_whenInvalidatedSnapshot_shouldFetchIt() {
+        // Given
+        FoodDto outdated = FoodDto.builder().id("a").productName("Old apple").build();
+        FoodDto fresh = FoodDto.builder().id("a").productName("Apple").build();
+        when(foodSnapshotStore.findAll(List.of("a")))
+                .thenReturn(Map.of("a", new FoodSnapshotStore.Snapshot(outdated, true, true)));
+        when(foodClient.getFoodsByIds(List.of("a"))).thenReturn(List.of(fresh));
+
+        // When
+        List<FoodDto> result = foodClientService.getFoodsByIds(List.of("a"));
+
+        // Then
+        assertThat(result).containsExactly(fresh);
+    }
+
+    @Test
+    @DisplayName("When food is evicted while it loads, should not cache the loaded value")
+    void get_whenEvictedDuringLoad_shouldNotCacheLoadedValue() {
+        // Given
+        FoodDto outdated = FoodDto.builder().id("123").productName("Old pizza").build();
+        FoodDto fresh = FoodDto.builder().id("123").productName("Pizza").build();
+        foodCatalogCache.get("123", foodId -> {
+            foodCatalogCache.evict(foodId);
+            return outdated;
+        });
+
+        // When
+        FoodDto result = foodCatalogCache.get("123", foodId -> fresh);
+
+        // Then
+        assertEquals(fresh, result);
     }
 }
@@ -0,0 +1,109 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.olehprukhnytskyi.exception.NotFoundException;
+import com.olehprukhnytskyi.macrotrackerintakeservice.client.FoodClient;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FoodLookupCollapserTest {
+    @Mock
+    private FoodClient foodClient;
+
+    private FoodLookupCollapser collapser;
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (collapser != null) {
+            collapser.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("When lookups arrive within the window, should send one batch request")
+    void getFoodById_whenConcurrent_shouldCollapseIntoOneBatch() {
+        // Given
+        collapser = collapser(Duration.ofMillis(200), 50);
+        FoodDto apple = FoodDto.builder().id("a").productName("Apple").build();
+        FoodDto banana = FoodDto.builder().id("b").productName("Banana").build();
+        when(foodClient.getFoodsByIds(anyList())).thenReturn(List.of(apple, banana));
+
+        // When
+        List<CompletableFuture<FoodDto>> results = List.of("a", "b", "a").stream()
+                .map(id -> CompletableFuture.supplyAsync(
+                        () -> collapser.getFoodById(id), callers))
+                .toList();
+
+        // Then
+        assertThat(results.stream().map(CompletableFuture::join))
+                .containsExactly(apple, banana, apple);
+        verify(foodClient, times(1)).getFoodsByIds(anyList());
+        verify(foodClient, never()).getFoodById("a");
+    }
+
+    @Test
+    @DisplayName("When max batch size is reached, should flush without waiting for window")
+    void getFoodById_whenBatchFull_shouldFlushImmediately() {
+        // Given
+        collapser = collapser(Duration.ofMinutes(1), 1);
+        FoodDto apple = FoodDto.builder().id("a").productName("Apple").build();
+        when(foodClient.getFoodsByIds(List.of("a"))).thenReturn(List.of(apple));
+
+        // When
+        FoodDto result = collapser.getFoodById("a");
+
+        // Then
+        assertThat(result).isEqualTo(apple);
+    }
+
+    @Test
+    @DisplayName("When id is missing from batch response, should throw NotFoundException")
+    void getFoodById_whenMissing_shouldThrowNotFound() {
+        // Given
+        collapser = collapser(Duration.ofMillis(1), 50);
+        when(foodClient.getFoodsByIds(List.of("x"))).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(NotFoundException.class, () -> collapser.getFoodById("x"));
+    }
+
+    @Test
+    @DisplayName("When batch request fails, should rethrow upstream exception to caller")
+    void getFoodById_whenUpstreamFails_shouldRethrow() {
+        // Given
+        collapser = collapser(Duration.ofMillis(1), 50);
+        when(foodClient.getFoodsByIds(anyList())).thenThrow(FeignException.class);
+
+        // When & Then
+        assertThrows(FeignException.class, () -> collapser.getFoodById("a"));
+    }
+
+    private FoodLookupCollapser collapser(Duration window, int maxBatchSize) {
+        return new FoodLookupCollapser(foodClient,
+                new FoodRequestHedger(new SimpleMeterRegistry(), false, 0.95, 0.05,
+                        Duration.ofMillis(10)),
+                new SimpleMeterRegistry(), true, window, maxBatchSize);
+    }
+}
@@ -0,0 +1,134 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.MealTemplateRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.DailyNutritionSummaryRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.MealTemplateRepository;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import com.zaxxer.hikari.HikariDataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class FoodLookupTransactionBoundaryTest extends AbstractIntegrationTest {
+    @MockitoBean
+    private FoodClientService foodClientService;
+
+    @Autowired
+    private IntakeService intakeService;
+    @Autowired
+    private MealService mealService;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private IntakeRepository intakeRepository;
+    @Autowired
+    private MealTemplateRepository mealTemplateRepository;
+    @Autowired
+    private DailyNutritionSummaryRepository summaryRepository;
+
+    private final Long userId = 31L;
+    private final List<Integer> activeConnections = new ArrayList<>();
+    private final List<Boolean> transactionActive = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(foodClientService.getFoodById(anyString())).thenAnswer(inv -> {
+            recordConnectionState();
+            return food(inv.getArgument(0));
+        });
+        when(foodClientService.getFoodsByIds(anyList())).thenAnswer(inv -> {
+            recordConnectionState();
+            return inv.<List<String>>getArgument(0).stream().map(this::food).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        intakeRepository.deleteAll();
+        mealTemplateRepository.deleteAll();
+        summaryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When intake is saved, should hold no connection during food lookup")
+    void save_whenFoodResolved_shouldNotHoldConnection() {
+        // When
+        intakeService.save(IntakeRequestDto.builder()
+                .foodId("apple")
+                .amount(150)
+                .date(LocalDate.of(2025, 5, 1))
+                .intakePeriod(IntakePeriod.LUNCH)
+                .build(), userId);
+
+        // Then
+        assertThat(activeConnections).containsExactly(0);
+        assertThat(transactionActive).containsExactly(false);
+        assertThat(intakeRepository.findByUserIdAndDate(userId, LocalDate.of(2025, 5, 1)))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("When template is created and updated, should hold no connection during lookups")
+    void templates_whenFoodsResolved_shouldNotHoldConnection() {
+        // Given
+        Long templateId = mealService.createTemplate(template("apple"), userId);
+
+        // When
+        mealService.updateTemplate(templateId, template("apple", "banana"), userId);
+
+        // Then
+        assertThat(activeConnections).containsExactly(0, 0);
+        assertThat(transactionActive).containsExactly(false, false);
+        assertThat(mealService.getTemplates(userId).getFirst().getItems()).hasSize(2);
+    }
+
+    private void recordConnectionState() {
+        activeConnections.add(dataSource.unwrap(HikariDataSource.class)
+                .getHikariPoolMXBean().getActiveConnections());
+        transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    private MealTemplateRequestDto template(String... foodIds) {
+        return MealTemplateRequestDto.builder()
+                .name("Fruit")
+                .items(List.of(foodIds).stream()
+                        .map(id -> MealTemplateRequestDto.TemplateItemDto.builder()
+                                .foodId(id)
+                                .amount(100)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private FoodDto food(String id) {
+        return FoodDto.builder()
+                .id(id)
+                .productName(id)
+                .nutriments(NutrimentsDto.builder()
+                        .calories(BigDecimal.valueOf(52))
+                        .carbohydrates(BigDecimal.valueOf(14))
+                        .build())
+                .availableUnits(List.of(UnitType.GRAMS))
+                .build();
+    }
+}
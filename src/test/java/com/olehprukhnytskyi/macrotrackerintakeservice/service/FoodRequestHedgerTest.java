@@ -0,0 +1,148 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FoodRequestHedgerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private FoodRequestHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hedger != null) {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("When first call is slower than threshold, should return hedged response")
+    void call_whenPrimarySlow_shouldReturnHedgedResponse() {
+        // Given
+        hedger = new FoodRequestHedger(meterRegistry, true, 0.95, 1.0, Duration.ofMillis(10));
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = hedger.call(() -> calls.incrementAndGet() == 1
+                ? awaitRelease("primary") : "hedge");
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.counter("food.service.hedge.sent").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("food.service.hedge.wins").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When hedge wins, should interrupt the losing attempt")
+    void call_whenHedgeWins_shouldInterruptLoser() throws InterruptedException {
+        // Given
+        hedger = new FoodRequestHedger(meterRegistry, true, 0.95, 1.0, Duration.ofMillis(10));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        String result = hedger.call(() -> {
+            if (calls.incrementAndGet() > 1) {
+                return "hedge";
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "primary";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("When hedging budget is exhausted, should wait for the first call")
+    void call_whenBudgetExhausted_shouldNotHedge() {
+        // Given
+        hedger = new FoodRequestHedger(meterRegistry, true, 0.95, 0.0, Duration.ofMillis(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = hedger.call(() -> {
+            calls.incrementAndGet();
+            sleep(Duration.ofMillis(50));
+            return "primary";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.counter("food.service.hedge.sent").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("When primary fails before threshold, should rethrow its exception")
+    void call_whenPrimaryFails_shouldRethrow() {
+        // Given
+        hedger = new FoodRequestHedger(meterRegistry, true, 0.95, 1.0, Duration.ofSeconds(1));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> hedger.call(() -> {
+            throw new IllegalStateException("boom");
+        }));
+    }
+
+    @Test
+    @DisplayName("When primary throws an error, should rethrow it instead of waiting forever")
+    void call_whenPrimaryThrowsError_shouldRethrow() {
+        // Given
+        hedger = new FoodRequestHedger(meterRegistry, true, 0.95, 1.0, Duration.ofSeconds(1));
+
+        // When & Then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThrows(StackOverflowError.class, () -> hedger.call(() -> {
+                    throw new StackOverflowError();
+                })));
+    }
+
+    @Test
+    @DisplayName("When hedging is disabled, should call supplier on caller thread")
+    void call_whenDisabled_shouldCallDirectly() {
+        // Given
+        hedger = new FoodRequestHedger(meterRegistry, false, 0.95, 1.0, Duration.ofMillis(1));
+        Thread caller = Thread.currentThread();
+
+        // When
+        Thread executed = hedger.call(Thread::currentThread);
+
+        // Then
+        assertThat(executed).isSameAs(caller);
+    }
+
+    private String awaitRelease(String value) {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.olehprukhnytskyi.exception.ExternalServiceException;
+import com.olehprukhnytskyi.exception.NotFoundException;
+import com.olehprukhnytskyi.exception.error.FoodErrorCode;
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.FoodServiceResilienceConfig;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FoodServiceGuardTest {
+    @Test
+    @DisplayName("When upstream fails transiently, should retry and return result")
+    void call_whenTransientFailure_shouldRetry() {
+        // Given
+        FoodServiceGuard guard = guard(3, 20, Duration.ofSeconds(2));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = guard.call(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw serverError();
+            }
+            return "ok";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("When food is not found, should not retry")
+    void call_whenNotFound_shouldNotRetry() {
+        // Given
+        FoodServiceGuard guard = guard(3, 20, Duration.ofSeconds(2));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(NotFoundException.class, () -> guard.call(() -> {
+            attempts.incrementAndGet();
+            throw new NotFoundException(FoodErrorCode.FOOD_NOT_FOUND, "Food not found");
+        }));
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("When circuit breaker is open, should fail fast without calling upstream")
+    void call_whenCircuitOpen_shouldFailFast() {
+        // Given
+        CircuitBreaker circuitBreaker = CircuitBreaker.of(FoodServiceGuard.NAME,
+                FoodServiceResilienceConfig.circuitBreakerConfig(
+                        50, Duration.ofMinutes(1), Duration.ofSeconds(2)));
+        FoodServiceGuard guard = new FoodServiceGuard(circuitBreaker,
+                Bulkhead.ofDefaults(FoodServiceGuard.NAME),
+                TimeLimiter.ofDefaults(FoodServiceGuard.NAME),
+                Retry.of(FoodServiceGuard.NAME,
+                        FoodServiceResilienceConfig.retryConfig(3, Duration.ofMillis(1))),
+                new SimpleMeterRegistry());
+        circuitBreaker.transitionToOpenState();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(ExternalServiceException.class,
+                () -> guard.call(attempts::incrementAndGet));
+        assertThat(attempts).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("When upstream hangs, should time out with ExternalServiceException")
+    void call_whenSlow_shouldTimeOut() {
+        // Given
+        FoodServiceGuard guard = guard(1, 20, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When & Then
+        assertThrows(ExternalServiceException.class,
+                () -> guard.call(() -> awaitAndReturn(release, "late")));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("When call times out, should interrupt upstream and keep permit until it returns")
+    void call_whenTimedOut_shouldInterruptUpstreamAndHoldPermit() throws InterruptedException {
+        // Given
+        FoodServiceGuard guard = guard(1, 1, Duration.ofMillis(50));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        assertThrows(ExternalServiceException.class, () -> guard.call(() -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            awaitUninterruptibly(release);
+            return "late";
+        }));
+
+        // Then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThrows(ExternalServiceException.class, () -> guard.call(() -> "second"));
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String result = null;
+        while (result == null && System.nanoTime() < deadline) {
+            try {
+                result = guard.call(() -> "third");
+            } catch (ExternalServiceException e) {
+                Thread.sleep(10);
+            }
+        }
+        assertThat(result).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("When concurrent calls exceed bulkhead, should reject extra calls")
+    void call_whenBulkheadFull_shouldReject() throws InterruptedException {
+        // Given
+        FoodServiceGuard guard = guard(1, 1, Duration.ofSeconds(2));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> guard.call(() -> {
+            started.countDown();
+            return awaitAndReturn(release, "first");
+        }));
+        started.await();
+
+        // When & Then
+        try {
+            assertThrows(ExternalServiceException.class, () -> guard.call(() -> "second"));
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    static FoodServiceGuard guard(int maxAttempts, int maxConcurrentCalls, Duration timeout) {
+        return new FoodServiceGuard(
+                CircuitBreaker.of(FoodServiceGuard.NAME,
+                        FoodServiceResilienceConfig.circuitBreakerConfig(
+                                50, Duration.ofSeconds(10), timeout)),
+                Bulkhead.of(FoodServiceGuard.NAME, BulkheadConfig.custom()
+                        .maxConcurrentCalls(maxConcurrentCalls)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()),
+                TimeLimiter.of(FoodServiceGuard.NAME, TimeLimiterConfig.custom()
+                        .timeoutDuration(timeout)
+                        .build()),
+                Retry.of(FoodServiceGuard.NAME,
+                        FoodServiceResilienceConfig.retryConfig(maxAttempts, Duration.ofMillis(1))),
+                new SimpleMeterRegistry());
+    }
+
+    private static String awaitAndReturn(CountDownLatch latch, String value) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static FeignException serverError() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/foods/1", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        return new FeignException.ServiceUnavailable("unavailable", request, null, Map.of());
+    }
+}
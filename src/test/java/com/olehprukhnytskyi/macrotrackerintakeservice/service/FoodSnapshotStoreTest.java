@@ -0,0 +1,80 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.FoodSnapshotRepository;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class FoodSnapshotStoreTest extends AbstractIntegrationTest {
+    @Autowired
+    private FoodSnapshotStore foodSnapshotStore;
+    @Autowired
+    private FoodSnapshotRepository foodSnapshotRepository;
+
+    @AfterEach
+    void tearDown() {
+        foodSnapshotRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When food is stored, should read back nutriments and units as fresh")
+    void save_whenStored_shouldReturnFreshSnapshot() {
+        // Given
+        FoodDto food = food("a", "Apple");
+
+        // When
+        foodSnapshotStore.save(List.of(food));
+        FoodSnapshotStore.Snapshot snapshot = foodSnapshotStore.find("a").orElseThrow();
+
+        // Then
+        assertThat(snapshot.stale()).isFalse();
+        assertThat(snapshot.food().getProductName()).isEqualTo("Apple");
+        assertThat(snapshot.food().getAvailableUnits())
+                .containsExactly(UnitType.GRAMS, UnitType.PIECES);
+        assertThat(snapshot.food().getNutriments().getCalories()).isEqualByComparingTo("52");
+        assertThat(snapshot.food().getNutriments().getCaloriesPerPiece())
+                .isEqualByComparingTo("95");
+    }
+
+    @Test
+    @DisplayName("When food is marked stale, should still serve it flagged for refresh")
+    void markStale_whenStored_shouldFlagSnapshot() {
+        // Given
+        foodSnapshotStore.save(List.of(food("a", "Apple"), food("b", "Banana")));
+
+        // When
+        foodSnapshotStore.markStale("a");
+        Map<String, FoodSnapshotStore.Snapshot> snapshots =
+                foodSnapshotStore.findAll(List.of("a", "b", "c"));
+
+        // Then
+        assertThat(snapshots).containsOnlyKeys("a", "b");
+        assertThat(snapshots.get("a").stale()).isTrue();
+        assertThat(snapshots.get("a").invalidated()).isTrue();
+        assertThat(snapshots.get("b").stale()).isFalse();
+        assertThat(snapshots.get("b").invalidated()).isFalse();
+    }
+
+    private FoodDto food(String id, String name) {
+        return FoodDto.builder()
+                .id(id)
+                .productName(name)
+                .nutriments(NutrimentsDto.builder()
+                        .calories(BigDecimal.valueOf(52))
+                        .carbohydrates(BigDecimal.valueOf(14))
+                        .caloriesPerPiece(BigDecimal.valueOf(95))
+                        .build())
+                .availableUnits(List.of(UnitType.GRAMS, UnitType.PIECES))
+                .build();
+    }
+}
@@ -0,0 +1,437 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.IntakeRecomputeJobConfig;
+import com.olehprukhnytskyi.macrotrackerintakeservice.controller.IntakeRecomputeEndpoint;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.DailyNutritionSummary;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.DailyNutritionSummaryId;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplate;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.OutboxEvent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.DailyNutritionSummaryRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.MealTemplateRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.OutboxEventRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.IntakeRecomputeWriter;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.recompute.RecomputeCacheInvalidationTasklet;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@TestPropertySource(properties = {
+        "app.recompute.chunk-size=2",
+        "app.recompute.partitions=3",
+        "app.recompute.threads=2"
+})
+class IntakeRecomputeJobTest extends AbstractIntegrationTest {
+    private static final int STALE = 5;
+    private static final String FOOD_ID = "12345678";
+    private static final String EDITED_FOOD_ID = "87654321";
+
+    @MockitoBean
+    private FoodClientService foodClientService;
+    @MockitoSpyBean
+    private IntakeOutboxWriter intakeOutboxWriter;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+    @Autowired
+    @Qualifier("intakeRecomputeJob")
+    private Job intakeRecomputeJob;
+    @Autowired
+    private IntakeRepository intakeRepository;
+    @Autowired
+    private DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private IntakeRecomputeService intakeRecomputeService;
+    @Autowired
+    private JobExplorer jobExplorer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private MealService mealService;
+    @Autowired
+    private MealTemplateRepository mealTemplateRepository;
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private final Long userId = 61L;
+    private final LocalDate today = LocalDate.now();
+    private final String dayKey = userId + ":" + today;
+
+    @BeforeEach
+    void setUp() {
+        List<Intake> intakes = new ArrayList<>();
+        for (int i = 0; i < STALE; i++) {
+            intakes.add(intake(FOOD_ID, BigDecimal.valueOf(52), 150, BigDecimal.valueOf(70)));
+        }
+        intakes.add(intake(EDITED_FOOD_ID, BigDecimal.valueOf(100), 100,
+                BigDecimal.valueOf(100)));
+        intakeRepository.saveAll(intakes);
+        dailyNutritionSummaryRepository.save(DailyNutritionSummary.builder()
+                .id(new DailyNutritionSummaryId(userId, today, IntakePeriod.LUNCH))
+                .calories(BigDecimal.valueOf(70L * STALE + 100))
+                .intakeCount(STALE + 1)
+                .build());
+        outboxEventRepository.deleteAll();
+        cacheManager.getCache(CacheConstants.USER_INTAKES).put(dayKey, new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        intakeRepository.deleteAll();
+        dailyNutritionSummaryRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        mealTemplateRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When dry run, should report changed rows without writing")
+    void run_whenDryRun_shouldOnlyReportDiff() throws Exception {
+        // When
+        JobExecution execution = run(true);
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(summaryStep(execution).getExecutionContext()
+                .getLong(IntakeRecomputeWriter.CHANGED)).isEqualTo(STALE);
+        assertThat(intakeRepository.findAll())
+                .extracting(intake -> intake.getNutriments().getCalories())
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsOnly(BigDecimal.valueOf(70), BigDecimal.valueOf(100));
+        assertThat(outboxEventRepository.findAll()).isEmpty();
+        assertThat(cacheManager.getCache(CacheConstants.USER_INTAKES).get(dayKey)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("When stale totals exist, should rewrite them in parallel partitions")
+    void run_whenStaleTotals_shouldRecomputeAndInvalidateCaches() throws Exception {
+        // When
+        JobExecution execution = run(false);
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(execution.getStepExecutions())
+                .filteredOn(step -> step.getStepName()
+                        .startsWith(IntakeRecomputeJobConfig.WORKER_STEP + ":"))
+                .hasSizeGreaterThan(1);
+        StepExecution summary = summaryStep(execution);
+        assertThat(summary.getExecutionContext().getLong(RecomputeCacheInvalidationTasklet.ROWS))
+                .isEqualTo(STALE + 1);
+        assertThat(summary.getExecutionContext().getLong(IntakeRecomputeWriter.CHANGED))
+                .isEqualTo(STALE);
+        assertThat(intakeRepository.findAll())
+                .extracting(intake -> intake.getNutriments().getCalories())
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsOnly(BigDecimal.valueOf(78), BigDecimal.valueOf(100));
+        assertThat(dailyNutritionSummaryRepository.findAll())
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getCalories()).isEqualByComparingTo(
+                            BigDecimal.valueOf(78L * STALE + 100));
+                    assertThat(row.getIntakeCount()).isEqualTo(STALE + 1);
+                });
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getEventType)
+                .hasSize(STALE)
+                .containsOnly(IntakeOutboxWriter.INTAKE_UPDATED);
+        Cache cache = cacheManager.getCache(CacheConstants.USER_INTAKES);
+        assertThat(cache.get(dayKey)).isNull();
+    }
+
+    @Test
+    @DisplayName("When refreshing foods, should fetch them without holding a database connection")
+    void run_whenRefreshFoods_shouldFetchOutsideWriteTransaction() throws Exception {
+        // Given
+        List<Boolean> connectionBound = new CopyOnWriteArrayList<>();
+        when(foodClientService.getFoodsByIds(anyList())).thenAnswer(invocation -> {
+            connectionBound.add(TransactionSynchronizationManager.hasResource(dataSource));
+            return List.of(food(FOOD_ID), food(EDITED_FOOD_ID));
+        });
+
+        // When
+        JobExecution execution = run(false, true);
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(connectionBound).isNotEmpty().containsOnly(false);
+        assertThat(intakeRepository.findAll())
+                .extracting(intake -> intake.getNutriments().getCalories())
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsOnly(BigDecimal.valueOf(90), BigDecimal.valueOf(60));
+        assertThat(dailyNutritionSummaryRepository.findAll())
+                .singleElement()
+                .satisfies(row -> assertThat(row.getCalories())
+                        .isEqualByComparingTo(BigDecimal.valueOf(90L * STALE + 60)));
+        assertThat(outboxEventRepository.findAll()).hasSize(STALE + 1);
+    }
+
+    @Test
+    @DisplayName("When a row changes between read and write, should skip its update and deltas")
+    void run_whenRowEditedConcurrently_shouldSkipItsDeltasAndEvents() throws Exception {
+        // Given
+        when(foodClientService.getFoodsByIds(anyList())).thenAnswer(invocation -> {
+            if (invocation.<List<String>>getArgument(0).contains(EDITED_FOOD_ID)) {
+                CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                        "UPDATE intake SET amount = 200 WHERE food_id = ?", EDITED_FOOD_ID))
+                        .join();
+            }
+            return List.of(food(FOOD_ID), food(EDITED_FOOD_ID));
+        });
+
+        // When
+        JobExecution execution = run(false, true);
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(summaryStep(execution).getExecutionContext()
+                .getLong(IntakeRecomputeWriter.CHANGED)).isEqualTo(STALE);
+        assertThat(intakeRepository.findAll())
+                .filteredOn(intake -> EDITED_FOOD_ID.equals(intake.getFoodId()))
+                .singleElement()
+                .satisfies(intake -> {
+                    assertThat(intake.getAmount()).isEqualTo(200);
+                    assertThat(intake.getNutriments().getCalories())
+                            .isEqualByComparingTo(BigDecimal.valueOf(100));
+                });
+        assertThat(dailyNutritionSummaryRepository.findAll())
+                .singleElement()
+                .satisfies(row -> assertThat(row.getCalories())
+                        .isEqualByComparingTo(BigDecimal.valueOf(90L * STALE + 100)));
+        assertThat(outboxEventRepository.findAll()).hasSize(STALE);
+    }
+
+    @Test
+    @DisplayName("When a partition fails mid-run, restart should finish it and apply deltas once")
+    void restart_whenPartitionFailed_shouldResumeWithoutDoubleCounting() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("Outbox unavailable"))
+                .doCallRealMethod()
+                .when(intakeOutboxWriter).updated(anyList());
+        JobExecution failed = run(false, false);
+
+        // When
+        Long restartedId = intakeRecomputeService.restart(failed.getId());
+        JobExecution restarted = awaitFinished(restartedId);
+
+        // Then
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(intakeRepository.findAll())
+                .extracting(intake -> intake.getNutriments().getCalories())
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsOnly(BigDecimal.valueOf(78), BigDecimal.valueOf(100));
+        assertThat(dailyNutritionSummaryRepository.findAll())
+                .singleElement()
+                .satisfies(row -> assertThat(row.getCalories())
+                        .isEqualByComparingTo(BigDecimal.valueOf(78L * STALE + 100)));
+        assertThat(outboxEventRepository.findAll()).hasSize(STALE);
+    }
+
+    @Test
+    @DisplayName("When intake was created from a PIECES template item, should keep its totals")
+    void run_whenTemplatePiecesIntake_shouldRecomputePerPiece() throws Exception {
+        // Given
+        MealTemplate template = MealTemplate.builder()
+                .userId(userId)
+                .name("Eggs")
+                .build();
+        template.setItems(new ArrayList<>(List.of(MealTemplateItem.builder()
+                .template(template)
+                .foodId(FOOD_ID)
+                .foodName("Egg")
+                .amount(2)
+                .unitType(UnitType.PIECES)
+                .nutriments(Nutriments.builder()
+                        .caloriesPer100(BigDecimal.valueOf(155))
+                        .caloriesPerPiece(BigDecimal.valueOf(78))
+                        .calories(BigDecimal.valueOf(156))
+                        .build())
+                .build())));
+        Long templateId = mealTemplateRepository.save(template).getId();
+        Long intakeId = mealService.applyTemplate(templateId, today, IntakePeriod.LUNCH, userId)
+                .getFirst().getId();
+
+        // When
+        JobExecution execution = run(false);
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(summaryStep(execution).getExecutionContext()
+                .getLong(IntakeRecomputeWriter.CHANGED)).isEqualTo(STALE);
+        assertThat(intakeRepository.findById(intakeId)).get()
+                .satisfies(intake -> {
+                    assertThat(intake.getUnitType()).isEqualTo(UnitType.PIECES);
+                    assertThat(intake.getNutriments().getCalories())
+                            .isEqualByComparingTo(BigDecimal.valueOf(156));
+                });
+    }
+
+    @Test
+    @DisplayName("When template items are stale, should recompute them and evict cached templates")
+    void run_whenTemplateItemsStale_shouldRecomputeAndEvictTemplates() throws Exception {
+        // Given
+        MealTemplate template = MealTemplate.builder()
+                .userId(userId)
+                .name("Breakfast")
+                .build();
+        MealTemplateItem grams = MealTemplateItem.builder()
+                .template(template)
+                .foodId(FOOD_ID)
+                .foodName("Apple")
+                .amount(150)
+                .nutriments(Nutriments.builder()
+                        .caloriesPer100(BigDecimal.valueOf(52))
+                        .calories(BigDecimal.valueOf(70))
+                        .build())
+                .build();
+        MealTemplateItem pieces = MealTemplateItem.builder()
+                .template(template)
+                .foodId(EDITED_FOOD_ID)
+                .foodName("Egg")
+                .amount(2)
+                .unitType(UnitType.PIECES)
+                .nutriments(Nutriments.builder()
+                        .caloriesPer100(BigDecimal.valueOf(155))
+                        .caloriesPerPiece(BigDecimal.valueOf(78))
+                        .calories(BigDecimal.valueOf(156))
+                        .build())
+                .build();
+        template.setItems(new ArrayList<>(List.of(grams, pieces)));
+        mealTemplateRepository.save(template);
+        Cache templates = cacheManager.getCache(CacheConstants.MEAL_TEMPLATES);
+        templates.put(userId, new ArrayList<>());
+
+        // When
+        JobExecution execution = run(false);
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(execution.getStepExecutions())
+                .filteredOn(step -> step.getStepName().equals("mealTemplateItemRecomputeStep"))
+                .singleElement()
+                .satisfies(step -> assertThat(step.getExecutionContext()
+                        .getLong(IntakeRecomputeWriter.CHANGED)).isEqualTo(1));
+        assertThat(templateItemCalories(grams.getId()))
+                .isEqualByComparingTo(BigDecimal.valueOf(78));
+        assertThat(templateItemCalories(pieces.getId()))
+                .isEqualByComparingTo(BigDecimal.valueOf(156));
+        assertThat(templates.get(userId)).isNull();
+    }
+
+    @Test
+    @DisplayName("When endpoint is not enabled, should not register it")
+    void endpoint_whenNotEnabled_shouldNotBeRegistered() {
+        // When
+        IntakeRecomputeEndpoint endpoint = applicationContext
+                .getBeanProvider(IntakeRecomputeEndpoint.class)
+                .getIfAvailable();
+
+        // Then
+        assertThat(endpoint).isNull();
+    }
+
+    private BigDecimal templateItemCalories(Long itemId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT calories FROM meal_template_item WHERE id = ?", BigDecimal.class, itemId);
+    }
+
+    private JobExecution run(boolean dryRun) throws Exception {
+        return run(dryRun, false);
+    }
+
+    private JobExecution run(boolean dryRun, boolean refreshFoods) throws Exception {
+        return jobLauncher.run(intakeRecomputeJob, new JobParametersBuilder()
+                .addJobParameter(IntakeRecomputeJobConfig.DRY_RUN, dryRun, Boolean.class)
+                .addJobParameter(IntakeRecomputeJobConfig.REFRESH_FOODS, refreshFoods,
+                        Boolean.class)
+                .addLong("requestedAt", System.nanoTime())
+                .toJobParameters());
+    }
+
+    private JobExecution awaitFinished(Long executionId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        while (execution.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            execution = jobExplorer.getJobExecution(executionId);
+        }
+        return execution;
+    }
+
+    private FoodDto food(String id) {
+        return FoodDto.builder()
+                .id(id)
+                .nutriments(NutrimentsDto.builder()
+                        .calories(BigDecimal.valueOf(60))
+                        .build())
+                .build();
+    }
+
+    private StepExecution summaryStep(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().equals("intakeRecomputeCacheStep"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Intake intake(String foodId, BigDecimal caloriesPer100, int amount,
+                          BigDecimal calories) {
+        return Intake.builder()
+                .date(today)
+                .userId(userId)
+                .foodName("Apple")
+                .foodId(foodId)
+                .nutriments(Nutriments.builder()
+                        .caloriesPer100(caloriesPer100)
+                        .calories(calories)
+                        .build())
+                .amount(amount)
+                .intakePeriod(IntakePeriod.LUNCH)
+                .build();
+    }
+}
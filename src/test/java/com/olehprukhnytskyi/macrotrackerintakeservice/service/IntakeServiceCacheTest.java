@@ -21,6 +21,7 @@ import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.IntakeMapper;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
 import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeView;
 import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
 import com.olehprukhnytskyi.util.IntakePeriod;
 import com.olehprukhnytskyi.util.UnitType;
@@ -136,21 +137,19 @@ class IntakeServiceCacheTest extends AbstractIntegrationTest {
     @DisplayName("Should use cache on second call")
     void findByDate_shouldUseCacheOnSecondCall() {
         // Given
-        Intake mockIntake = new Intake();
-        List<Intake> intakeEntities = List.of(mockIntake);
+        IntakeView view = new IntakeView(intakeId, null, "Apple", 100, UnitType.GRAMS, today,
+                IntakePeriod.SNACK, BigDecimal.TEN, BigDecimal.ONE, BigDecimal.ONE,
+                BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, 0L);
 
-        IntakeResponseDto mockDto = new IntakeResponseDto();
-        mockDto.setFoodName("Apple");
-
-        doReturn(intakeEntities).when(intakeRepository).findByUserIdAndDate(anyLong(), any());
-        when(intakeMapper.toDto(any(Intake.class))).thenReturn(mockDto);
+        doReturn(List.of(view)).when(intakeRepository).findViewsByUserIdAndDate(anyLong(), any());
 
         // When
         List<IntakeResponseDto> intakes1 = intakeService.findByDate(today, userId);
-        verify(intakeRepository, times(1)).findByUserIdAndDate(anyLong(), any());
+        verify(intakeRepository, times(1)).findViewsByUserIdAndDate(anyLong(), any());
 
         List<IntakeResponseDto> intakes2 = intakeService.findByDate(today, userId);
-        verify(intakeRepository, times(1)).findByUserIdAndDate(anyLong(), any());
+        verify(intakeRepository, times(1)).findViewsByUserIdAndDate(anyLong(), any());
 
         // Then
         assertThat(intakes1).hasSize(intakes2.size());
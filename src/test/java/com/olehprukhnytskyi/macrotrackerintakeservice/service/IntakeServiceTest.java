@@ -1,14 +1,17 @@
 package com.olehprukhnytskyi.macrotrackerintakeservice.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.olehprukhnytskyi.exception.BadRequestException;
 import com.olehprukhnytskyi.exception.ExternalServiceException;
 import com.olehprukhnytskyi.exception.NotFoundException;
 import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
@@ -19,18 +22,29 @@ import com.olehprukhnytskyi.macrotrackerintakeservice.mapper.NutrimentsMapper;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
 import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
 import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeView;
 import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.GramsCalculationStrategy;
 import com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy.NutrientStrategyFactory;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
+import com.olehprukhnytskyi.util.IntakePeriod;
 import com.olehprukhnytskyi.util.UnitType;
 import feign.FeignException;
 import feign.Request;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class IntakeServiceTest {
@@ -44,6 +58,16 @@ class IntakeServiceTest {
     private NutrientStrategyFactory nutrientStrategyFactory;
     @Mock
     private NutrimentsMapper nutrimentsMapper;
+    @Mock
+    private IntakeCacheWriter intakeCacheWriter;
+    @Mock
+    private IntakeOutboxWriter intakeOutboxWriter;
+    @Mock
+    private DailySummaryService dailySummaryService;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private IntakeService intakeService;
@@ -80,6 +104,8 @@ class IntakeServiceTest {
         when(nutrientStrategyFactory.getStrategy(UnitType.GRAMS))
                 .thenReturn(new GramsCalculationStrategy());
         when(nutrimentsMapper.fromFoodNutriments(any())).thenReturn(new Nutriments());
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         // When
         final IntakeResponseDto result = intakeService.save(requestDto, userId);
@@ -87,6 +113,7 @@ class IntakeServiceTest {
         // Then
         verify(intakeMapper).updateIntakeFromFoodDto(intake, foodDto);
         verify(intakeRepository).save(intake);
+        verify(intakeCacheWriter).added(userId, requestDto.getDate(), List.of(responseDto));
 
         assertEquals(responseDto, result);
         assertEquals(userId, intake.getUserId());
@@ -131,4 +158,79 @@ class IntakeServiceTest {
 
         verify(intakeRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("When loading a day, should build DTOs from projections without the mapper")
+    void findByDate_shouldMapProjectionsWithoutEntities() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 1, 15);
+        IntakeView view = new IntakeView(3L, "group-1", "Oats", 60, UnitType.GRAMS, date,
+                IntakePeriod.BREAKFAST, new BigDecimal("233.40"), new BigDecimal("4.14"),
+                new BigDecimal("10.14"), new BigDecimal("39.78"), BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0L);
+        when(intakeRepository.findViewsByUserIdAndDate(userId, date)).thenReturn(List.of(view));
+
+        // When
+        List<IntakeResponseDto> result = intakeService.findByDate(date, userId);
+
+        // Then
+        assertEquals(1, result.size());
+        IntakeResponseDto dto = result.getFirst();
+        assertEquals(3L, dto.getId());
+        assertEquals("group-1", dto.getMealGroupId());
+        assertEquals("Oats", dto.getFoodName());
+        assertEquals(60, dto.getAmount());
+        assertEquals(IntakePeriod.BREAKFAST, dto.getIntakePeriod());
+        assertEquals(new BigDecimal("233.40"), dto.getNutriments().getCalories());
+        assertEquals(new BigDecimal("39.78"), dto.getNutriments().getCarbohydrates());
+        assertEquals(BigDecimal.ZERO, dto.getNutriments().getFatPerPiece());
+        verify(intakeRepository, never()).findByUserIdAndDate(any(), any());
+        verifyNoInteractions(intakeMapper);
+    }
+
+    @Test
+    @DisplayName("When some days are cached, should query only the uncached span once")
+    void findByDateRange_whenPartiallyCached_shouldQueryUncachedSpanOnce() {
+        // Given
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 3);
+        Cache cache = new ConcurrentMapCache(CacheConstants.USER_INTAKES);
+        IntakeResponseDto cachedDto = IntakeResponseDto.builder().id(1L).date(from).build();
+        cache.put(userId + ":" + from, List.of(cachedDto));
+
+        Intake intake = new Intake();
+        intake.setId(2L);
+        intake.setDate(to);
+        IntakeResponseDto loadedDto = IntakeResponseDto.builder().id(2L).date(to).build();
+
+        when(cacheManager.getCache(CacheConstants.USER_INTAKES)).thenReturn(cache);
+        when(intakeRepository.findByUserIdAndDateBetweenOrderByDateAscIdAsc(
+                userId, from.plusDays(1), to)).thenReturn(List.of(intake));
+        when(intakeMapper.toDto(intake)).thenReturn(loadedDto);
+
+        // When
+        Map<LocalDate, List<IntakeResponseDto>> result =
+                intakeService.findByDateRange(from, to, userId);
+
+        // Then
+        assertEquals(List.of(from, from.plusDays(1), to), List.copyOf(result.keySet()));
+        assertEquals(List.of(cachedDto), result.get(from));
+        assertEquals(List.of(), result.get(from.plusDays(1)));
+        assertEquals(List.of(loadedDto), result.get(to));
+        verify(intakeRepository).findByUserIdAndDateBetweenOrderByDateAscIdAsc(
+                userId, from.plusDays(1), to);
+        assertNotNull(cache.get(userId + ":" + from.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("When range is reversed, should throw BAD_REQUEST")
+    void findByDateRange_whenReversed_shouldThrowBadRequest() {
+        // Given
+        LocalDate from = LocalDate.of(2025, 1, 3);
+        LocalDate to = LocalDate.of(2025, 1, 1);
+
+        // When & Then
+        assertThrows(BadRequestException.class,
+                () -> intakeService.findByDateRange(from, to, userId));
+    }
 }
@@ -0,0 +1,180 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.UpdateIntakeRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@TestPropertySource(properties = "app.cache.write-mode=write-through")
+class IntakeServiceWriteThroughCacheTest extends AbstractIntegrationTest {
+    @MockitoBean
+    private FoodClientService foodClientService;
+    @MockitoSpyBean
+    private IntakeRepository intakeRepository;
+
+    @Autowired
+    private IntakeService intakeService;
+    @Autowired
+    private IntakeCacheWriter intakeCacheWriter;
+
+    private final Long userId = 7L;
+    private final LocalDate today = LocalDate.now();
+    private Long intakeId;
+
+    @BeforeEach
+    void setUp() {
+        FoodDto foodDto = FoodDto.builder()
+                .id("12345678")
+                .productName("Apple")
+                .nutriments(NutrimentsDto.builder()
+                        .calories(BigDecimal.valueOf(52))
+                        .carbohydrates(BigDecimal.valueOf(14))
+                        .fat(BigDecimal.valueOf(0))
+                        .protein(BigDecimal.valueOf(0))
+                        .build())
+                .availableUnits(List.of(UnitType.GRAMS))
+                .build();
+        when(foodClientService.getFoodById(anyString())).thenReturn(foodDto);
+
+        Intake intake = Intake.builder()
+                .date(today)
+                .userId(userId)
+                .foodName("Rice")
+                .foodId("00000000")
+                .nutriments(Nutriments.builder()
+                        .calories(BigDecimal.valueOf(200))
+                        .carbohydrates(BigDecimal.valueOf(40))
+                        .fat(BigDecimal.valueOf(20))
+                        .protein(BigDecimal.valueOf(10))
+                        .caloriesPer100(BigDecimal.valueOf(100))
+                        .carbohydratesPer100(BigDecimal.valueOf(20))
+                        .fatPer100(BigDecimal.valueOf(10))
+                        .proteinPer100(BigDecimal.valueOf(5))
+                        .build())
+                .amount(200)
+                .intakePeriod(IntakePeriod.SNACK)
+                .build();
+        intakeId = intakeRepository.save(intake).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        intakeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When intakes change, should patch cached day without reloading it")
+    void mutations_whenWriteThrough_shouldPatchCachedDay() {
+        // Given
+        assertThat(intakeService.findByDate(today, userId)).hasSize(1);
+
+        // When
+        IntakeResponseDto saved = intakeService.save(IntakeRequestDto.builder()
+                .foodId("12345678")
+                .amount(100)
+                .date(today)
+                .intakePeriod(IntakePeriod.SNACK)
+                .build(), userId);
+        List<IntakeResponseDto> afterSave = intakeService.findByDate(today, userId);
+
+        intakeService.update(intakeId, UpdateIntakeRequestDto.builder()
+                .amount(300)
+                .build(), userId);
+        List<IntakeResponseDto> afterUpdate = intakeService.findByDate(today, userId);
+
+        intakeService.deleteById(saved.getId(), userId);
+        List<IntakeResponseDto> afterDelete = intakeService.findByDate(today, userId);
+
+        // Then
+        assertThat(afterSave).extracting(IntakeResponseDto::getId)
+                .containsExactly(intakeId, saved.getId());
+        assertThat(afterUpdate).filteredOn(dto -> dto.getId().equals(intakeId))
+                .extracting(IntakeResponseDto::getAmount)
+                .containsExactly(300);
+        assertThat(afterDelete).extracting(IntakeResponseDto::getId)
+                .containsExactly(intakeId);
+        verify(intakeRepository, times(1)).findViewsByUserIdAndDate(userId, today);
+    }
+
+    @Test
+    @DisplayName("When patches arrive late or twice, should keep the newest version only")
+    void patches_whenReplayedOutOfOrder_shouldNotDuplicateOrRegress() {
+        // Given
+        IntakeResponseDto original = intakeService.findByDate(today, userId).getFirst();
+        IntakeResponseDto updated = intakeService.update(intakeId, UpdateIntakeRequestDto.builder()
+                .amount(300)
+                .build(), userId);
+        IntakeResponseDto stale = copy(original)
+                .amount(250)
+                .build();
+
+        // When
+        intakeCacheWriter.updated(userId, original, stale);
+        intakeCacheWriter.added(userId, today, List.of(updated));
+        List<IntakeResponseDto> cached = intakeService.findByDate(today, userId);
+
+        // Then
+        assertThat(cached).singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.getAmount()).isEqualTo(300);
+                    assertThat(dto.getVersion()).isEqualTo(original.getVersion() + 1);
+                });
+        verify(intakeRepository, times(1)).findViewsByUserIdAndDate(userId, today);
+    }
+
+    @Test
+    @DisplayName("When an updated intake is not in the cached day, should evict instead of append")
+    void updated_whenIntakeNotCached_shouldEvictDay() {
+        // Given
+        IntakeResponseDto cached = intakeService.findByDate(today, userId).getFirst();
+        IntakeResponseDto unknown = copy(cached)
+                .id(cached.getId() + 1000)
+                .version(cached.getVersion() + 1)
+                .build();
+
+        // When
+        intakeCacheWriter.updated(userId, cached, unknown);
+        List<IntakeResponseDto> reloaded = intakeService.findByDate(today, userId);
+
+        // Then
+        assertThat(reloaded).extracting(IntakeResponseDto::getId).containsExactly(intakeId);
+        verify(intakeRepository, times(2)).findViewsByUserIdAndDate(userId, today);
+    }
+
+    private IntakeResponseDto.IntakeResponseDtoBuilder copy(IntakeResponseDto source) {
+        return IntakeResponseDto.builder()
+                .id(source.getId())
+                .mealGroupId(source.getMealGroupId())
+                .foodName(source.getFoodName())
+                .amount(source.getAmount())
+                .unitType(source.getUnitType())
+                .date(source.getDate())
+                .intakePeriod(source.getIntakePeriod())
+                .nutriments(source.getNutriments())
+                .version(source.getVersion());
+    }
+}
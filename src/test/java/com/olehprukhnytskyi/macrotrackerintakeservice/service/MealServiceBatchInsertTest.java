@@ -0,0 +1,122 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.MealTemplateRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.MealTemplateRepository;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MealServiceBatchInsertTest extends AbstractIntegrationTest {
+    private static final int ITEMS = 30;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgresContainer =
+            new PostgreSQLContainer<>("postgres:16");
+
+    @MockitoBean
+    private FoodClientService foodClientService;
+
+    @Autowired
+    private MealService mealService;
+    @Autowired
+    private IntakeRepository intakeRepository;
+    @Autowired
+    private MealTemplateRepository mealTemplateRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Long userId = 31L;
+    private Statistics statistics;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",
+                () -> postgresContainer.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", postgresContainer::getUsername);
+        registry.add("spring.datasource.password", postgresContainer::getPassword);
+        registry.add("spring.datasource.driverClassName", postgresContainer::getDriverClassName);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<FoodDto> foods = IntStream.range(0, ITEMS)
+                .mapToObj(i -> FoodDto.builder()
+                        .id("food-" + i)
+                        .productName("Food " + i)
+                        .nutriments(NutrimentsDto.builder()
+                                .calories(BigDecimal.valueOf(100 + i))
+                                .protein(BigDecimal.TEN)
+                                .build())
+                        .availableUnits(List.of(UnitType.GRAMS))
+                        .build())
+                .toList();
+        when(foodClientService.getFoodsByIds(anyList())).thenReturn(foods);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        intakeRepository.deleteAll();
+        mealTemplateRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When template has 30 items, should insert them in batches")
+    void createAndApplyTemplate_whenManyItems_shouldBatchInserts() {
+        // Given
+        MealTemplateRequestDto request = new MealTemplateRequestDto();
+        request.setName("Big meal");
+        request.setItems(IntStream.range(0, ITEMS)
+                .mapToObj(i -> MealTemplateRequestDto.TemplateItemDto.builder()
+                        .foodId("food-" + i)
+                        .amount(100)
+                        .build())
+                .toList());
+
+        // When
+        statistics.clear();
+        Long templateId = mealService.createTemplate(request, userId);
+        long createStatements = statistics.getPrepareStatementCount();
+        long createdItems = statistics.getEntityInsertCount();
+
+        statistics.clear();
+        List<IntakeResponseDto> applied = mealService.applyTemplate(
+                templateId, LocalDate.of(2025, 2, 3), IntakePeriod.LUNCH, userId);
+        long applyStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(createdItems).isEqualTo(ITEMS + 1);
+        assertThat(createStatements).isLessThan(ITEMS / 3);
+        assertThat(applied).hasSize(ITEMS);
+        assertThat(applied).allSatisfy(intake -> assertThat(intake.getId()).isNotNull());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEMS);
+        assertThat(applyStatements).isLessThan(ITEMS / 3);
+    }
+}
@@ -30,6 +30,7 @@ import com.olehprukhnytskyi.util.IntakePeriod;
 import com.olehprukhnytskyi.util.UnitType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +40,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class MealServiceTest {
@@ -56,6 +59,14 @@ class MealServiceTest {
     private FoodClientService foodClientService;
     @Mock
     private NutrientStrategyFactory nutrientStrategyFactory;
+    @Mock
+    private IntakeCacheWriter intakeCacheWriter;
+    @Mock
+    private IntakeOutboxWriter intakeOutboxWriter;
+    @Mock
+    private DailySummaryService dailySummaryService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private MealService mealService;
@@ -227,4 +238,71 @@ class MealServiceTest {
         // Then
         verify(intakeRepository, times(1)).deleteByMealGroupIdAndUserId(groupId, userId);
     }
+
+    @Test
+    @DisplayName("When template changes between read and write, should fetch foods and retry")
+    void updateTemplate_whenItemRemovedConcurrently_shouldFetchItsFoodAndRetry() {
+        // Given
+        Long userId = 1L;
+        MealTemplateRequestDto request = new MealTemplateRequestDto();
+        request.setName("Lunch");
+        request.setItems(List.of(
+                templateItemRequest("a"),
+                templateItemRequest("b")));
+        FoodDto food = FoodDto.builder()
+                .id("b")
+                .productName("Bread")
+                .nutriments(new NutrimentsDto())
+                .availableUnits(List.of(UnitType.GRAMS))
+                .build();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(mealTemplateRepository.findByIdAndUserId(5L, userId)).thenReturn(
+                Optional.of(template("a", "b")),
+                Optional.of(template("a")),
+                Optional.of(template("a")));
+        when(foodClientService.getFoodsByIds(List.of("b"))).thenReturn(List.of(food));
+        when(nutrientStrategyFactory.getStrategy(UnitType.GRAMS))
+                .thenReturn(new GramsCalculationStrategy());
+        when(nutrimentsMapper.fromFoodNutriments(any())).thenReturn(new Nutriments());
+
+        // When
+        mealService.updateTemplate(5L, request, userId);
+
+        // Then
+        ArgumentCaptor<MealTemplate> captor = ArgumentCaptor.forClass(MealTemplate.class);
+        verify(mealTemplateRepository).save(captor.capture());
+        assertThat(captor.getValue().getItems())
+                .extracting(MealTemplateItem::getFoodId)
+                .containsExactlyInAnyOrder("a", "b");
+        verify(foodClientService, times(1)).getFoodsByIds(anyList());
+    }
+
+    private MealTemplateRequestDto.TemplateItemDto templateItemRequest(String foodId) {
+        return MealTemplateRequestDto.TemplateItemDto.builder()
+                .foodId(foodId)
+                .unitType(UnitType.GRAMS)
+                .amount(100)
+                .build();
+    }
+
+    private MealTemplate template(String... foodIds) {
+        MealTemplate template = MealTemplate.builder()
+                .id(5L)
+                .userId(1L)
+                .name("Lunch")
+                .items(new ArrayList<>())
+                .build();
+        for (String foodId : foodIds) {
+            template.getItems().add(MealTemplateItem.builder()
+                    .template(template)
+                    .foodId(foodId)
+                    .foodName(foodId)
+                    .amount(100)
+                    .unitType(UnitType.GRAMS)
+                    .nutriments(new Nutriments())
+                    .build());
+        }
+        return template;
+    }
 }
@@ -0,0 +1,106 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutritionRollupDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.DailyNutritionSummaryRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.RollupPeriod;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+class NutritionRollupServiceTest extends AbstractIntegrationTest {
+    @MockitoSpyBean
+    private DailyNutritionSummaryRepository summaryRepository;
+
+    @Autowired
+    private NutritionRollupService nutritionRollupService;
+    @Autowired
+    private DailySummaryService dailySummaryService;
+    @Autowired
+    private IntakeCacheWriter intakeCacheWriter;
+
+    private final Long userId = 21L;
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 1, 31);
+
+    @BeforeEach
+    void setUp() {
+        dailySummaryService.added(List.of(
+                intake(LocalDate.of(2025, 1, 6), IntakePeriod.BREAKFAST, 300),
+                intake(LocalDate.of(2025, 1, 7), IntakePeriod.LUNCH, 600),
+                intake(LocalDate.of(2025, 1, 7), IntakePeriod.DINNER, 150)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        summaryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When month is closed, should aggregate in SQL and serve repeats from cache")
+    void findRollups_whenClosedMonth_shouldAggregateOnceAndCache() {
+        // When
+        List<NutritionRollupDto> first = nutritionRollupService
+                .findRollups(userId, RollupPeriod.MONTH, from, to);
+        List<NutritionRollupDto> second = nutritionRollupService
+                .findRollups(userId, RollupPeriod.MONTH, from, to);
+
+        // Then
+        assertThat(first).hasSize(1);
+        NutritionRollupDto rollup = first.getFirst();
+        assertThat(rollup.getPeriodStart()).isEqualTo(from);
+        assertThat(rollup.getPeriodEnd()).isEqualTo(to);
+        assertThat(rollup.getLoggedDays()).isEqualTo(2);
+        assertThat(rollup.getIntakeCount()).isEqualTo(3);
+        assertThat(rollup.getCaloriesSum()).isEqualByComparingTo("1050");
+        assertThat(rollup.getCaloriesAvg()).isEqualByComparingTo("525");
+        assertThat(second).isEqualTo(first);
+        verify(summaryRepository, times(1)).sumByMonth(eq(userId), any(), any());
+    }
+
+    @Test
+    @DisplayName("When intake of a closed month changes, should evict its cached rollup")
+    void findRollups_whenClosedMonthChanges_shouldReload() {
+        // Given
+        nutritionRollupService.findRollups(userId, RollupPeriod.MONTH, from, to);
+        Intake late = intake(LocalDate.of(2025, 1, 20), IntakePeriod.SNACK, 100);
+
+        // When
+        dailySummaryService.added(List.of(late));
+        intakeCacheWriter.added(userId, late.getDate(), List.of());
+        List<NutritionRollupDto> result = nutritionRollupService
+                .findRollups(userId, RollupPeriod.MONTH, from, to);
+
+        // Then
+        assertThat(result.getFirst().getCaloriesSum()).isEqualByComparingTo("1150");
+        assertThat(result.getFirst().getLoggedDays()).isEqualTo(3);
+        verify(summaryRepository, times(2)).sumByMonth(eq(userId), any(), any());
+    }
+
+    private Intake intake(LocalDate date, IntakePeriod period, int calories) {
+        return Intake.builder()
+                .userId(userId)
+                .date(date)
+                .foodId("food")
+                .intakePeriod(period)
+                .nutriments(Nutriments.builder()
+                        .calories(BigDecimal.valueOf(calories))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,268 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.FoodDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeRequestDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.IntakeResponseDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.dto.NutrimentsDto;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.OutboxEvent;
+import com.olehprukhnytskyi.macrotrackerintakeservice.producer.KafkaEventPublisher;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.OutboxEventRepository;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import com.olehprukhnytskyi.util.UnitType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OutboxRelayTest extends AbstractIntegrationTest {
+    private static final String TOPIC = "intake-events";
+
+    @MockitoBean
+    private FoodClientService foodClientService;
+    @MockitoBean
+    private KafkaEventPublisher kafkaEventPublisher;
+
+    @Autowired
+    private IntakeService intakeService;
+    @Autowired
+    private IntakeRepository intakeRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Long userId = 51L;
+    private final LocalDate today = LocalDate.now();
+    private final List<OutboxRelay> relays = new ArrayList<>();
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        when(foodClientService.getFoodById(anyString())).thenReturn(FoodDto.builder()
+                .id("12345678")
+                .productName("Apple")
+                .nutriments(NutrimentsDto.builder()
+                        .calories(BigDecimal.valueOf(52))
+                        .build())
+                .availableUnits(List.of(UnitType.GRAMS))
+                .build());
+        outboxRelay = relay(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        relays.forEach(OutboxRelay::release);
+        intakeRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When intake changes, should write outbox rows and relay them once")
+    void relayBatch_whenIntakeChanged_shouldPublishAndMarkProcessed() {
+        // Given
+        when(kafkaEventPublisher.publish(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        IntakeResponseDto saved = intakeService.save(IntakeRequestDto.builder()
+                .foodId("12345678")
+                .amount(100)
+                .date(today)
+                .intakePeriod(IntakePeriod.SNACK)
+                .build(), userId);
+        intakeService.deleteById(saved.getId(), userId);
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+        int relayedAgain = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(relayedAgain).isZero();
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getEventType, OutboxEvent::isProcessed)
+                .containsExactlyInAnyOrder(
+                        tuple(IntakeOutboxWriter.INTAKE_CREATED, true),
+                        tuple(IntakeOutboxWriter.INTAKE_DELETED, true));
+        verify(kafkaEventPublisher, times(2))
+                .publish(eq(TOPIC), eq(String.valueOf(saved.getId())), any());
+    }
+
+    @Test
+    @DisplayName("When publish fails, should keep the row for the next poll")
+    void relayBatch_whenPublishFails_shouldLeaveRowUnprocessed() {
+        // Given
+        when(kafkaEventPublisher.publish(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+        intakeService.save(IntakeRequestDto.builder()
+                .foodId("12345678")
+                .amount(100)
+                .date(today)
+                .intakePeriod(IntakePeriod.SNACK)
+                .build(), userId);
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isZero();
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::isProcessed)
+                .containsExactly(false);
+    }
+
+    @Test
+    @DisplayName("When an aggregate's event fails, should hold back its later events only")
+    void relayBatch_whenAggregateFails_shouldNotPublishItsLaterEvents() {
+        // Given
+        IntakeResponseDto failing = save();
+        intakeService.deleteById(failing.getId(), userId);
+        IntakeResponseDto healthy = save();
+        String failingKey = String.valueOf(failing.getId());
+        when(kafkaEventPublisher.publish(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaEventPublisher.publish(eq(TOPIC), eq(failingKey), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        verify(kafkaEventPublisher, times(1)).publish(eq(TOPIC), eq(failingKey), any());
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAggregateId, OutboxEvent::isProcessed)
+                .containsExactlyInAnyOrder(
+                        tuple(failingKey, false),
+                        tuple(failingKey, false),
+                        tuple(String.valueOf(healthy.getId()), true));
+    }
+
+    @Test
+    @DisplayName("When sends hang, should give up on the whole batch after one send timeout")
+    void relayBatch_whenSendsHang_shouldBoundBatchBySendTimeout() {
+        // Given
+        Duration sendTimeout = Duration.ofMillis(300);
+        OutboxRelay relay = relay(sendTimeout);
+        when(kafkaEventPublisher.publish(eq(TOPIC), anyString(), any()))
+                .thenAnswer(invocation -> new CompletableFuture<>());
+        save();
+        save();
+        save();
+
+        // When
+        long started = System.nanoTime();
+        int relayed = relay.relayBatch();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // Then
+        assertThat(relayed).isZero();
+        assertThat(elapsed).isLessThan(sendTimeout.multipliedBy(2));
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::isProcessed)
+                .containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("When another instance holds the relay lease, should not publish")
+    void relayBatch_whenLeaseHeldElsewhere_shouldNotPublish() {
+        // Given
+        when(kafkaEventPublisher.publish(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        outboxRelay.relayBatch();
+        OutboxRelay standby = relay(Duration.ofSeconds(5));
+        save();
+
+        // When
+        int relayedByStandby = standby.relayBatch();
+        int relayedByLeader = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayedByStandby).isZero();
+        assertThat(relayedByLeader).isEqualTo(1);
+        verify(kafkaEventPublisher, times(1)).publish(eq(TOPIC), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("When the leader releases the lease, should let another instance take over")
+    void relayBatch_whenLeaseReleased_shouldLetStandbyRelay() {
+        // Given
+        when(kafkaEventPublisher.publish(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        outboxRelay.relayBatch();
+        OutboxRelay standby = relay(Duration.ofSeconds(5));
+        save();
+        outboxRelay.release();
+
+        // When
+        int relayed = standby.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::isProcessed)
+                .containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("When events are sent, should not hold a transaction during the sends")
+    void relayBatch_whenSending_shouldRunOutsideTransaction() {
+        // Given
+        List<Boolean> transactional = new CopyOnWriteArrayList<>();
+        when(kafkaEventPublisher.publish(eq(TOPIC), anyString(), any())).thenAnswer(invocation -> {
+            transactional.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return CompletableFuture.completedFuture(null);
+        });
+        save();
+        save();
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(transactional).containsExactly(false, false);
+    }
+
+    private OutboxRelay relay(Duration sendTimeout) {
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, kafkaEventPublisher,
+                transactionTemplate, objectMapper, new SimpleMeterRegistry(), TOPIC, 500,
+                sendTimeout, Duration.ofDays(7), Duration.ofSeconds(30));
+        relays.add(relay);
+        return relay;
+    }
+
+    private IntakeResponseDto save() {
+        return intakeService.save(IntakeRequestDto.builder()
+                .foodId("12345678")
+                .amount(100)
+                .date(today)
+                .intakePeriod(IntakePeriod.SNACK)
+                .build(), userId);
+    }
+}
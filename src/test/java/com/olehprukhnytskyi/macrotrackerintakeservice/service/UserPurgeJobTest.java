@@ -0,0 +1,193 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.AbstractIntegrationTest;
+import com.olehprukhnytskyi.macrotrackerintakeservice.config.UserPurgeJobConfig;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.DailyNutritionSummary;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.DailyNutritionSummaryId;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Intake;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplate;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.DailyNutritionSummaryRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.IntakeRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.repository.jpa.MealTemplateRepository;
+import com.olehprukhnytskyi.macrotrackerintakeservice.service.purge.IdRangePurgeTasklet;
+import com.olehprukhnytskyi.macrotrackerintakeservice.util.CacheConstants;
+import com.olehprukhnytskyi.util.IntakePeriod;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"app.purge.chunk-size=2", "app.purge.pause=0ms",
+        "app.purge.orphan-timeout=0ms"})
+class UserPurgeJobTest extends AbstractIntegrationTest {
+    private static final int INTAKES = 5;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+    @Autowired
+    @Qualifier("userPurgeJob")
+    private Job userPurgeJob;
+    @Autowired
+    private IntakeRepository intakeRepository;
+    @Autowired
+    private MealTemplateRepository mealTemplateRepository;
+    @Autowired
+    private DailyNutritionSummaryRepository dailyNutritionSummaryRepository;
+    @Autowired
+    private UserPurgeService userPurgeService;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    private final Long userId = 41L;
+    private final Long otherUserId = 42L;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        List<Intake> intakes = new ArrayList<>();
+        for (int i = 0; i < INTAKES; i++) {
+            intakes.add(intake(userId));
+        }
+        intakes.add(intake(otherUserId));
+        intakeRepository.saveAll(intakes);
+
+        mealTemplateRepository.saveAll(List.of(
+                template(userId, "Breakfast"),
+                template(userId, "Lunch"),
+                template(userId, "Dinner"),
+                template(otherUserId, "Breakfast")));
+
+        dailyNutritionSummaryRepository.saveAll(List.of(
+                summary(userId),
+                summary(otherUserId)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        intakeRepository.deleteAll();
+        mealTemplateRepository.deleteAll();
+        dailyNutritionSummaryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("When user is purged, should delete only their rows in id-range chunks")
+    void run_whenUserPurged_shouldDeleteUserRowsInChunks() throws Exception {
+        // When
+        JobExecution execution = jobLauncher.run(userPurgeJob, new JobParametersBuilder()
+                .addLong(IdRangePurgeTasklet.USER_ID, userId)
+                .toJobParameters());
+
+        // Then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(intakeRepository.findAll())
+                .extracting(Intake::getUserId)
+                .containsOnly(otherUserId);
+        assertThat(mealTemplateRepository.findAllByUserId(userId)).isEmpty();
+        assertThat(mealTemplateRepository.findAllByUserId(otherUserId)).hasSize(1);
+        assertThat(dailyNutritionSummaryRepository.findAll())
+                .extracting(summary -> summary.getId().getUserId())
+                .containsOnly(otherUserId);
+
+        StepExecution intakesStep = execution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().equals("purgeIntakesStep"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(intakesStep.getWriteCount()).isEqualTo(INTAKES);
+        assertThat(intakesStep.getCommitCount()).isGreaterThanOrEqualTo(3);
+        assertThat(intakesStep.getExecutionContext()
+                .containsKey(IdRangePurgeTasklet.LAST_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("When a crashed execution is still STARTED, should fail it and resume purge")
+    void launch_whenOrphanedExecution_shouldRestartAndEvictCaches() throws Exception {
+        // Given
+        JobParameters parameters = new JobParametersBuilder()
+                .addLong(IdRangePurgeTasklet.USER_ID, userId)
+                .toJobParameters();
+        JobExecution orphan = jobRepository.createJobExecution(
+                UserPurgeJobConfig.JOB_NAME, parameters);
+        orphan.setStatus(BatchStatus.STARTED);
+        jobRepository.update(orphan);
+        Cache days = cacheManager.getCache(CacheConstants.USER_INTAKES);
+        days.put(userId + ":" + today, List.of());
+
+        // When
+        userPurgeService.launch(userId);
+
+        // Then
+        JobExecution last = jobRepository.getLastJobExecution(
+                UserPurgeJobConfig.JOB_NAME, parameters);
+        assertThat(last.getId()).isNotEqualTo(orphan.getId());
+        assertThat(last.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExplorer.getJobExecution(orphan.getId()).getStatus())
+                .isEqualTo(BatchStatus.FAILED);
+        assertThat(intakeRepository.findAll())
+                .extracting(Intake::getUserId)
+                .containsOnly(otherUserId);
+        assertThat(days.get(userId + ":" + today)).isNull();
+    }
+
+    private Intake intake(Long ownerId) {
+        return Intake.builder()
+                .date(today)
+                .userId(ownerId)
+                .foodName("Rice")
+                .foodId("00000000")
+                .nutriments(Nutriments.builder()
+                        .calories(BigDecimal.valueOf(200))
+                        .build())
+                .amount(200)
+                .intakePeriod(IntakePeriod.LUNCH)
+                .build();
+    }
+
+    private MealTemplate template(Long ownerId, String name) {
+        MealTemplate template = MealTemplate.builder()
+                .userId(ownerId)
+                .name(name)
+                .build();
+        template.setItems(new ArrayList<>(List.of(MealTemplateItem.builder()
+                .template(template)
+                .foodId("00000000")
+                .foodName("Rice")
+                .nutriments(Nutriments.builder().build())
+                .amount(150)
+                .build())));
+        return template;
+    }
+
+    private DailyNutritionSummary summary(Long ownerId) {
+        return DailyNutritionSummary.builder()
+                .id(new DailyNutritionSummaryId(ownerId, today, IntakePeriod.LUNCH))
+                .calories(BigDecimal.valueOf(200))
+                .intakeCount(1)
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.olehprukhnytskyi.macrotrackerintakeservice.service.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.MealTemplateItem;
+import com.olehprukhnytskyi.macrotrackerintakeservice.model.Nutriments;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.From;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+
+class FixedPointNutrientsPropertyTest {
+    private final GramsCalculationStrategy gramsStrategy = new GramsCalculationStrategy();
+    private final PiecesCalculationStrategy piecesStrategy = new PiecesCalculationStrategy();
+
+    @Property(tries = 5000)
+    @Label("Grams calculation should match BigDecimal HALF_UP rounding exactly")
+    void calculate_whenGrams_shouldMatchBigDecimal(
+            @ForAll("nutrientValues") BigDecimal per100,
+            @ForAll @IntRange(min = -1_000, max = 100_000) int amount) {
+        // Given
+        Nutriments nutriments = Nutriments.builder()
+                .caloriesPer100(per100)
+                .carbohydratesPer100(per100)
+                .fatPer100(per100)
+                .proteinPer100(per100)
+                .build();
+
+        // When
+        gramsStrategy.calculate(nutriments, amount);
+
+        // Then
+        BigDecimal expected = per100.multiply(BigDecimal.valueOf(amount))
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        assertThat(nutriments.getCalories()).isEqualTo(expected);
+        assertThat(nutriments.getCarbohydrates()).isEqualTo(expected);
+        assertThat(nutriments.getFat()).isEqualTo(expected);
+        assertThat(nutriments.getProtein()).isEqualTo(expected);
+    }
+
+    @Property(tries = 5000)
+    @Label("Pieces calculation should match BigDecimal multiplication including scale")
+    void calculate_whenPieces_shouldMatchBigDecimal(
+            @ForAll("nutrientValues") BigDecimal perPiece,
+            @ForAll @IntRange(min = -1_000, max = 100_000) int amount) {
+        // Given
+        Nutriments nutriments = Nutriments.builder()
+                .caloriesPerPiece(perPiece)
+                .carbohydratesPerPiece(perPiece)
+                .fatPerPiece(perPiece)
+                .proteinPerPiece(perPiece)
+                .build();
+
+        // When
+        piecesStrategy.calculate(nutriments, amount);
+
+        // Then
+        BigDecimal expected = perPiece.multiply(BigDecimal.valueOf(amount));
+        assertThat(nutriments.getCalories()).isEqualTo(expected);
+        assertThat(nutriments.getProtein()).isEqualTo(expected);
+    }
+
+    @Property(tries = 2000)
+    @Label("Template item recalculation should match BigDecimal arithmetic")
+    void recalculateItem_shouldMatchBigDecimal(
+            @ForAll("nutrientValues") BigDecimal per100,
+            @ForAll("nutrientValues") BigDecimal perPiece,
+            @ForAll @IntRange(min = 0, max = 10_000) int amount) {
+        // Given
+        MealTemplateItem gramsItem = item(per100, perPiece);
+        MealTemplateItem piecesItem = item(per100, perPiece);
+
+        // When
+        gramsStrategy.recalculateItem(gramsItem, amount);
+        piecesStrategy.recalculateItem(piecesItem, amount);
+
+        // Then
+        assertThat(gramsItem.getNutriments().getFat()).isEqualTo(per100
+                .multiply(BigDecimal.valueOf(amount))
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
+        assertThat(piecesItem.getNutriments().getFat())
+                .isEqualTo(perPiece.multiply(BigDecimal.valueOf(amount)));
+        assertThat(gramsItem.getAmount()).isEqualTo(amount);
+    }
+
+    @Property(tries = 1000)
+    @Label("Bulk calculation should match per-row calculation for both unit types")
+    void calculateAll_shouldMatchCalculate(
+            @ForAll @Size(max = 40) List<@From("nutrientValues") BigDecimal> values,
+            @ForAll @IntRange(min = -1_000, max = 100_000) int amount) {
+        // Given
+        int[] amounts = new int[values.size()];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = amount + i;
+        }
+        List<Nutriments> gramsBulk = values.stream().map(this::nutriments).toList();
+        List<Nutriments> piecesBulk = values.stream().map(this::nutriments).toList();
+        List<Nutriments> gramsSingle = values.stream().map(this::nutriments).toList();
+        List<Nutriments> piecesSingle = values.stream().map(this::nutriments).toList();
+
+        // When
+        gramsStrategy.calculateAll(gramsBulk, amounts);
+        piecesStrategy.calculateAll(piecesBulk, amounts);
+        for (int i = 0; i < amounts.length; i++) {
+            gramsStrategy.calculate(gramsSingle.get(i), amounts[i]);
+            piecesStrategy.calculate(piecesSingle.get(i), amounts[i]);
+        }
+
+        // Then
+        assertThat(gramsBulk).isEqualTo(gramsSingle);
+        assertThat(piecesBulk).isEqualTo(piecesSingle);
+    }
+
+    @Property(tries = 1000)
+    @Label("Column calculation should match per-row calculation for both unit types")
+    void calculateAll_whenFixedColumns_shouldMatchCalculate(
+            @ForAll @Size(max = 40) List<@From("nutrientValues") BigDecimal> values,
+            @ForAll @IntRange(min = -1_000, max = 100_000) int amount) {
+        // Given
+        List<BigDecimal> representable = values.stream()
+                .filter(FixedPointNutrients::isRepresentable)
+                .toList();
+        int length = representable.size();
+        long[] bases = new long[length];
+        int[] amounts = new int[length];
+        for (int i = 0; i < length; i++) {
+            bases[i] = FixedPointNutrients.toFixed(representable.get(i));
+            amounts[i] = amount + i;
+        }
+        long[] gramsTotals = new long[length];
+        long[] piecesTotals = new long[length];
+
+        // When
+        gramsStrategy.calculateAll(bases, amounts, gramsTotals, length);
+        piecesStrategy.calculateAll(bases, amounts, piecesTotals, length);
+
+        // Then
+        for (int i = 0; i < length; i++) {
+            BigDecimal base = representable.get(i);
+            assertThat(gramsStrategy.toTotal(gramsTotals[i], base.scale()))
+                    .isEqualTo(FixedPointNutrients.grams(base, amounts[i]));
+            assertThat(piecesStrategy.toTotal(piecesTotals[i], base.scale()))
+                    .isEqualTo(FixedPointNutrients.pieces(base, amounts[i]));
+        }
+    }
+
+    @Example
+    @Label("Bulk calculation should fall back to BigDecimal when a column overflows")
+    void calculateAll_whenOverflow_shouldMatchCalculate() {
+        // Given
+        BigDecimal large = new BigDecimal("999999999999.999999");
+        List<Nutriments> bulk = List.of(nutriments(BigDecimal.ONE), nutriments(large));
+        List<Nutriments> single = List.of(nutriments(BigDecimal.ONE), nutriments(large));
+        int[] amounts = {150, Integer.MAX_VALUE};
+
+        // When
+        gramsStrategy.calculateAll(bulk, amounts);
+        gramsStrategy.calculate(single.get(0), amounts[0]);
+        gramsStrategy.calculate(single.get(1), amounts[1]);
+
+        // Then
+        assertThat(bulk).isEqualTo(single);
+    }
+
+    @Property(tries = 2000)
+    @Label("Fixed-point conversion should equal the value rescaled to micro-units")
+    void toFixed_whenRepresentable_shouldMatchRescaledValue(
+            @ForAll("nutrientValues") BigDecimal value) {
+        Assume.that(FixedPointNutrients.isRepresentable(value));
+        assertThat(FixedPointNutrients.toFixed(value)).isEqualTo(value
+                .setScale(FixedPointNutrients.SCALE, RoundingMode.UNNECESSARY)
+                .unscaledValue().longValueExact());
+    }
+
+    @Example
+    @Label("Ties should round away from zero")
+    void divideHalfUp_whenTie_shouldRoundAwayFromZero() {
+        assertThat(FixedPointNutrients.divideHalfUp(15, 10)).isEqualTo(2);
+        assertThat(FixedPointNutrients.divideHalfUp(-15, 10)).isEqualTo(-2);
+        assertThat(FixedPointNutrients.divideHalfUp(14, 10)).isEqualTo(1);
+        assertThat(FixedPointNutrients.divideHalfUp(-14, 10)).isEqualTo(-1);
+    }
+
+    @Example
+    @Label("Null per-100g value should calculate as zero")
+    void grams_whenNull_shouldReturnZero() {
+        assertThat(FixedPointNutrients.grams(null, 150)).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> nutrientValues() {
+        return Arbitraries.integers().between(0, 9).flatMap(scale -> Arbitraries.bigDecimals()
+                .between(BigDecimal.valueOf(-1_000), BigDecimal.valueOf(10_000))
+                .ofScale(scale));
+    }
+
+    private Nutriments nutriments(BigDecimal value) {
+        return Nutriments.builder()
+                .caloriesPer100(value)
+                .carbohydratesPer100(value.negate())
+                .fatPer100(value)
+                .proteinPer100(value)
+                .caloriesPerPiece(value)
+                .carbohydratesPerPiece(value)
+                .fatPerPiece(value.negate())
+                .proteinPerPiece(value)
+                .build();
+    }
+
+    private MealTemplateItem item(BigDecimal per100, BigDecimal perPiece) {
+        return MealTemplateItem.builder()
+                .amount(100)
+                .nutriments(Nutriments.builder()
+                        .caloriesPer100(per100)
+                        .carbohydratesPer100(per100)
+                        .fatPer100(per100)
+                        .proteinPer100(per100)
+                        .caloriesPerPiece(perPiece)
+                        .carbohydratesPerPiece(perPiece)
+                        .fatPerPiece(perPiece)
+                        .proteinPerPiece(perPiece)
+                        .build())
+                .build();
+    }
+}
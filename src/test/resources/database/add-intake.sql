@@ -1 +1,2 @@
-insert into intake (amount, food_id, food_name, user_id, date, intake_period, unit_type, calories_total, carbohydrates_total, fat_total, protein_total, calories_per_100, carbohydrates_per_100, fat_per_100, protein_per_100, calories_per_piece, carbohydrates_per_piece, fat_per_piece, protein_per_piece) values (10, '1', 'Potato', 1, '2025-09-06', 'SNACK', 'PIECES', 50, 60, 70, 80, 1, 2, 3, 4, 5, 6, 7, 8)
\ No newline at end of file
+insert into intake (amount, food_id, food_name, user_id, date, intake_period, unit_type, calories_total, carbohydrates_total, fat_total, protein_total, calories_per_100, carbohydrates_per_100, fat_per_100, protein_per_100, calories_per_piece, carbohydrates_per_piece, fat_per_piece, protein_per_piece) values (10, '1', 'Potato', 1, '2025-09-06', 'SNACK', 'PIECES', 50, 60, 70, 80, 1, 2, 3, 4, 5, 6, 7, 8);
+insert into daily_nutrition_summary (user_id, date, intake_period, calories_total, carbohydrates_total, fat_total, protein_total, intake_count) values (1, '2025-09-06', 'SNACK', 50, 60, 70, 80, 1)
\ No newline at end of file
@@ -1 +1,2 @@
-delete from intake
\ No newline at end of file
+delete from intake;
+delete from daily_nutrition_summary
\ No newline at end of file